@@ -0,0 +1,17 @@
+package org.lambda;
+
+/**
+ * LongLambda interface that should be implemented to inject method logic that takes primitive long arguments into
+ * another method to simulate an anonymous function without boxing its arguments.
+ * @param <R> the return type of the lambda method.
+ */
+public interface LongLambda<R> {
+
+    /**
+     * Is run from within any method that contains the LongLambda class as an argument. Override and place custom logic
+     * within.
+     * @param l the argument/s that will be passed from within the outer method.
+     * @return the result of your logic back to outer method.
+     */
+    public R lambda(long... l);
+}
@@ -0,0 +1,17 @@
+package org.lambda;
+
+/**
+ * ToLongLambda interface that should be implemented to inject method logic that returns a primitive long into another
+ * method to simulate an anonymous function without boxing its result.
+ * @param <A> the argument type of the lambda method.
+ */
+public interface ToLongLambda<A> {
+
+    /**
+     * Is run from within any method that contains the ToLongLambda class as an argument. Override and place custom
+     * logic within.
+     * @param l the argument/s that will be passed from within the outer method.
+     * @return the result of your logic back to outer method.
+     */
+    public long lambda(A... l);
+}
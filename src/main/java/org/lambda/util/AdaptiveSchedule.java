@@ -0,0 +1,63 @@
+package org.lambda.util;
+
+/**
+ * The decision made by LambdaCollections.adaptiveMap about how to run a single map, along with the measurements it was
+ * based on.
+ */
+public class AdaptiveSchedule {
+
+    private final int size;
+    private final int sampled;
+    private final double nanosPerElement;
+    private final boolean parallel;
+    private final int chunkSize;
+
+    AdaptiveSchedule(int size, int sampled, double nanosPerElement, boolean parallel, int chunkSize) {
+        this.size = size;
+        this.sampled = sampled;
+        this.nanosPerElement = nanosPerElement;
+        this.parallel = parallel;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return - the number of elements that were mapped.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return - the number of elements that were mapped sequentially to measure the cost of the lambda.
+     */
+    public int getSampled() {
+        return sampled;
+    }
+
+    /**
+     * @return - the measured average cost of a single evaluation of the lambda in nanoseconds.
+     */
+    public double getNanosPerElement() {
+        return nanosPerElement;
+    }
+
+    /**
+     * @return - true if the elements after the sample were mapped in parallel.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * @return - the largest number of elements mapped by a single fork join task, or 0 if the map was sequential.
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveSchedule{size=" + size + ", sampled=" + sampled + ", nanosPerElement=" + nanosPerElement
+                + ", parallel=" + parallel + ", chunkSize=" + chunkSize + "}";
+    }
+}
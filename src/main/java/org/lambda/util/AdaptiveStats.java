@@ -0,0 +1,55 @@
+package org.lambda.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the decisions made by LambdaCollections.adaptiveMap so that they can be checked.
+ */
+public class AdaptiveStats {
+
+    private final AtomicLong sequentialRuns = new AtomicLong();
+    private final AtomicLong parallelRuns = new AtomicLong();
+    private volatile AdaptiveSchedule lastSchedule;
+
+    AdaptiveStats() {
+    }
+
+    /**
+     * @return - the number of maps that were run sequentially.
+     */
+    public long getSequentialRuns() {
+        return sequentialRuns.get();
+    }
+
+    /**
+     * @return - the number of maps that were run in parallel.
+     */
+    public long getParallelRuns() {
+        return parallelRuns.get();
+    }
+
+    /**
+     * @return - the most recent decision, or null if no map has been run since the stats were reset.
+     */
+    public AdaptiveSchedule getLastSchedule() {
+        return lastSchedule;
+    }
+
+    /**
+     * Set every count back to zero and forget the most recent decision.
+     */
+    public void reset() {
+        sequentialRuns.set(0);
+        parallelRuns.set(0);
+        lastSchedule = null;
+    }
+
+    void record(AdaptiveSchedule schedule) {
+        if (schedule.isParallel()) {
+            parallelRuns.incrementAndGet();
+        } else {
+            sequentialRuns.incrementAndGet();
+        }
+        lastSchedule = schedule;
+    }
+}
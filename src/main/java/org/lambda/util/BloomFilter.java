@@ -0,0 +1,68 @@
+package org.lambda.util;
+
+/**
+ * A fixed size Bloom filter over 64 bit hashes used by the approximate distinct map to reject repeated results before
+ * an exact set is touched. The filter never reports a new hash as already seen, but reports an unseen hash as seen with
+ * roughly the false positive rate it was sized for once the expected number of hashes have been added.
+ */
+class BloomFilter {
+
+    private final long[] words;
+    private final long bits;
+    private final int hashes;
+
+    /**
+     * Create a filter sized for the given number of hashes and false positive rate.
+     *
+     * @param expectedInsertions - the number of hashes that are expected to be added.
+     * @param falsePositiveRate  - the chance of an unseen hash being reported as seen, between 0 and 1 exclusive.
+     */
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (m + 63) >>> 6));
+
+        this.words = new long[words];
+        this.bits = (long) words << 6;
+        this.hashes = (int) Math.max(1, Math.min(16, Math.round((double) bits / n * ln2)));
+    }
+
+    /**
+     * Record the given hash.
+     *
+     * @param hash - the hash to record.
+     * @return - true if the hash had definitely not been recorded before, false if it may have been.
+     */
+    boolean add(long hash) {
+        long h1 = mix(hash);
+        long h2 = mix(h1) | 1;
+
+        boolean added = false;
+        for (int i = 0; i < hashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bits;
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                added = true;
+            }
+        }
+
+        return added;
+    }
+
+    /**
+     * The 64 bit finalizer of MurmurHash3.
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE1A85A53L;
+
+        return h ^ (h >>> 33);
+    }
+}
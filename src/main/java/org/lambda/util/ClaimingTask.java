@@ -0,0 +1,111 @@
+package org.lambda.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands a range of indexes out in chunks, in order, to a worker for each thread of the common fork join pool. Every
+ * worker keeps claiming the next chunk until the range is used up or {@link #claimable(int)} says the rest of the range
+ * is no longer needed. Because chunks are claimed in order a task can stop early, e.g. at a deadline or once a match
+ * has been found, and still know that everything before a given index has been run.
+ */
+abstract class ClaimingTask {
+
+    /**
+     * The fewest elements in a chunk, so that claiming a chunk is cheap next to running it.
+     */
+    private static final int MIN_CHUNK = 1 << 4;
+
+    /**
+     * The most elements in a chunk, so that little work is wasted past the point where a task stops early.
+     */
+    private static final int MAX_CHUNK = 1 << 12;
+
+    protected final int size;
+    protected final int chunk;
+    private final AtomicInteger nextChunk = new AtomicInteger();
+
+    /**
+     * @param size - the number of indexes, starting from 0, that will be handed out.
+     */
+    ClaimingTask(int size) {
+        this.size = size;
+        this.chunk = Math.max(MIN_CHUNK, Math.min(RangeTask.threshold(size), MAX_CHUNK));
+    }
+
+    /**
+     * Run the workers in the common fork join pool and return once they have all stopped.
+     */
+    final void invoke() {
+        final List<RecursiveAction> tasks = new ArrayList<RecursiveAction>();
+        for (int i = 0; i < workers(); i++) {
+            final int worker = i;
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    work(worker);
+                }
+            });
+        }
+
+        if (!tasks.isEmpty()) {
+            ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return - the number of chunks the range is split into.
+     */
+    final int chunks() {
+        return (size + chunk - 1) / chunk;
+    }
+
+    /**
+     * @return - the number of workers that will be run, no more than the parallelism of the common pool.
+     */
+    final int workers() {
+        return Math.min(chunks(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Return whether the chunk starting at the given index still needs to be run. Once this returns false for an index
+     * it must return false for every later index, as the worker that asked stops claiming chunks.
+     *
+     * @param start - the first index of the chunk that has been claimed.
+     * @return - true if the chunk should be run.
+     */
+    protected boolean claimable(int start) {
+        return true;
+    }
+
+    /**
+     * Run the logic over a claimed chunk.
+     *
+     * @param worker - the number of the worker running the chunk, from 0 to {@link #workers()} exclusive. A worker
+     *               runs on one thread at a time so state kept per worker needs no locking.
+     * @param chunk  - the number of the chunk, from 0 to {@link #chunks()} exclusive.
+     * @param start  - the first index of the chunk, inclusive.
+     * @param end    - the last index of the chunk, exclusive.
+     */
+    protected abstract void runChunk(int worker, int chunk, int start, int end);
+
+    private void work(int worker) {
+        int chunks = chunks();
+
+        int c;
+        while ((c = nextChunk.getAndIncrement()) < chunks) {
+            int start = c * chunk;
+            if (!claimable(start)) return;
+
+            runChunk(worker, c, start, Math.min(size, start + chunk));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.lambda.util;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * An iterator that holds resources, e.g. open files, until it has been read to the end. An iterator that is abandoned
+ * part way through should be closed to release them straight away.
+ *
+ * @param <E> - the type of the elements returned by the iterator.
+ */
+public interface CloseableIterator<E> extends Iterator<E>, Closeable {
+
+    /**
+     * Release any resources held by this iterator. After this the iterator has no more elements. Closing an iterator
+     * more than once has no effect.
+     */
+    @Override
+    public void close();
+}
@@ -0,0 +1,82 @@
+package org.lambda.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A count per key that can be added to from many threads at once, for example from the lambda passed to
+ * LambdaCollections.parallelMapC. Each count is a striped LongAdder so only the first add for a key takes a lock and
+ * threads adding to the same key update different cells rather than all contending for a single cache line.
+ *
+ * @param <K> - the type of the keys.
+ */
+public class ConcurrentCounterMap<K> {
+
+    private static final Function<Object, LongAdder> NEW_COUNTER = new Function<Object, LongAdder>() {
+        @Override
+        public LongAdder apply(Object key) {
+            return new LongAdder();
+        }
+    };
+
+    private final ConcurrentMap<K, LongAdder> counters = new ConcurrentHashMap<K, LongAdder>();
+
+    /**
+     * Add one to the count of the given key.
+     *
+     * @param key - the key to count.
+     */
+    public void increment(K key) {
+        counter(key).increment();
+    }
+
+    /**
+     * Add the given amount to the count of the given key.
+     *
+     * @param key    - the key to count.
+     * @param amount - the amount to add.
+     */
+    public void add(K key, long amount) {
+        counter(key).add(amount);
+    }
+
+    /**
+     * @param key - the key to look up.
+     * @return - the count of the given key or 0 if it has never been counted.
+     */
+    public long get(K key) {
+        LongAdder counter = counters.get(key);
+
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * @return - the keys that have been counted.
+     */
+    public Set<K> keySet() {
+        return counters.keySet();
+    }
+
+    /**
+     * @return - a new map containing the current count of every key.
+     */
+    public Map<K, Long> toMap() {
+        Map<K, Long> map = new HashMap<K, Long>();
+        for (Map.Entry<K, LongAdder> entry : counters.entrySet()) {
+            map.put(entry.getKey(), entry.getValue().sum());
+        }
+
+        return map;
+    }
+
+    private LongAdder counter(K key) {
+        LongAdder counter = counters.get(key);
+
+        return counter != null ? counter : counters.computeIfAbsent(key, NEW_COUNTER);
+    }
+}
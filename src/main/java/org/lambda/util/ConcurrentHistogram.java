@@ -0,0 +1,84 @@
+package org.lambda.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram that can be recorded into from many threads at once, for example from the lambda passed to
+ * LambdaCollections.parallelMapC. Every bucket is a striped LongAdder so threads recording into the same bucket update
+ * different cells rather than all contending for a single cache line.
+ */
+public class ConcurrentHistogram {
+
+    private final double[] upperBounds;
+    private final LongAdder[] counts;
+    private final DoubleAdder sum = new DoubleAdder();
+
+    /**
+     * Create a histogram with a bucket for each of the given upper bounds plus a final bucket for any larger value.
+     * A value is counted in the first bucket whose upper bound it is less than or equal to.
+     *
+     * @param upperBounds - the inclusive upper bound of each bucket in ascending order.
+     */
+    public ConcurrentHistogram(double... upperBounds) {
+        if (upperBounds == null) throw new NullPointerException(
+                "org.lambda.util.ConcurrentHistogram - upperBounds cannot be null.");
+        for (int i = 1; i < upperBounds.length; i++) {
+            if (upperBounds[i] <= upperBounds[i - 1]) throw new IllegalArgumentException(
+                    "org.lambda.util.ConcurrentHistogram - upperBounds must be in ascending order.");
+        }
+
+        this.upperBounds = upperBounds.clone();
+        this.counts = new LongAdder[upperBounds.length + 1];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Count the given value in its bucket.
+     *
+     * @param value - the value to record.
+     */
+    public void record(double value) {
+        int bucket = Arrays.binarySearch(upperBounds, value);
+
+        counts[bucket < 0 ? -bucket - 1 : bucket].increment();
+        sum.add(value);
+    }
+
+    /**
+     * @return - the number of buckets including the final bucket for values larger than every upper bound.
+     */
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    /**
+     * @param bucket - the index of the bucket.
+     * @return - the number of values recorded in the bucket.
+     */
+    public long getCount(int bucket) {
+        return counts[bucket].sum();
+    }
+
+    /**
+     * @return - the number of values recorded in every bucket.
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (LongAdder count : counts) {
+            total += count.sum();
+        }
+
+        return total;
+    }
+
+    /**
+     * @return - the sum of every value recorded.
+     */
+    public double getSum() {
+        return sum.sum();
+    }
+}
@@ -1,6 +1,9 @@
 package org.lambda.util;
 
+import org.lambda.IntLambda;
 import org.lambda.Lambda;
+import org.lambda.LongLambda;
+import org.lambda.ToLongLambda;
 
 import java.beans.beancontext.BeanContext;
 import java.beans.beancontext.BeanContextServices;
@@ -10,6 +13,9 @@ import java.lang.reflect.Array;
 import java.util.*;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.LinkedBlockingQueue;
 
@@ -19,6 +25,33 @@ import java.util.concurrent.LinkedBlockingQueue;
  */
 public class LambdaCollections {
 
+    /**
+     * A deadline is checked every time the number of processed elements has none of these bits set.
+     */
+    private static final int DEADLINE_CHECK_MASK = 0xF;
+
+    /**
+     * An adaptive map keeps sampling the lambda until the sample has taken at least this long...
+     */
+    private static final long MIN_SAMPLE_NANOS = 50000;
+
+    /**
+     * ...or this many elements have been sampled.
+     */
+    private static final int MAX_SAMPLE = 1 << 10;
+
+    /**
+     * An adaptive map only forks if the rest of the elements are expected to take at least this long sequentially.
+     */
+    private static final long PARALLEL_THRESHOLD_NANOS = 500000;
+
+    /**
+     * An adaptive map aims to give each fork join task about this much work.
+     */
+    private static final long TARGET_CHUNK_NANOS = 100000;
+
+    private static final AdaptiveStats ADAPTIVE_STATS = new AdaptiveStats();
+
     private LambdaCollections() {
     }
 
@@ -123,6 +156,118 @@ public class LambdaCollections {
         return returnCollection;
     }
 
+    /**
+     * Run the logic within the lambda method across the provided collection/s that contain objects of type &lt;E&gt;,
+     * deciding for itself whether to do so sequentially or in parallel. Then return a new collection of the given type
+     * &lt;RC&gt; containing the results in order.
+     * <p/>
+     * The first elements are mapped sequentially while the time they take is measured. From that cost and the number
+     * of elements left the map decides whether forking would pay for itself and, if it would, how many elements to
+     * give each fork join task. Every decision is recorded in {@link #getAdaptiveStats()}.
+     *
+     * @param returnType  - the Class of the type of collections that should be returned e.g. List.class, Set.class,
+     *                    Map.class, ArrayList.class...
+     * @param lambda      - the Lambda object that contains the logic that will be run. It must be safe to run from
+     *                    many threads at once.
+     * @param collections - the collection/s that will have the logic run across each element.
+     * @param <R>         - the return type of the Lambda.lambda method and the type contained with the returned
+     *                    collection.
+     * @param <E>         - the argument type of the Lambda.lambda method and the type contained with the given
+     *                    collection/s.
+     * @param <RC>        - the type of the returned collection e.g. List, Set, Map... This is set by the returnType
+     *                    argument.
+     * @param <C>         - the type of the given collection e.g. List, Set, Map...
+     * @return - the new collection built from the given collections after the logic has been run over each element.
+     */
+    public static <R, E, RC extends Collection<R>, C extends Collection<E>> RC adaptiveMap(Class<RC> returnType,
+                                                                                           Lambda<R, E> lambda,
+                                                                                           C... collections) {
+        if (returnType == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.adaptiveMap - returnType cannot be null.");
+        if (collections == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.adaptiveMap - collections cannot be null.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.adaptiveMap - lambda cannot be null.");
+
+        RC mappedCollection = collections.length == 0 ? null
+                : instantiateCollection(returnType);
+
+        if (mappedCollection != null) {
+            runOverCollectionAdaptively(mappedCollection, lambda, collections);
+        }
+
+        return mappedCollection;
+    }
+
+    /**
+     * @return - the record of every decision made by {@link #adaptiveMap(Class, Lambda, Collection[])}.
+     */
+    public static AdaptiveStats getAdaptiveStats() {
+        return ADAPTIVE_STATS;
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided collection/s that contain objects of type &lt;E&gt;
+     * until either every element has been processed or the deadline has passed. Then return the results computed so
+     * far.
+     * <p/>
+     * The deadline is checked before the first element and then every few elements, so a single slow evaluation of the
+     * lambda method can run past it.
+     *
+     * @param deadline    - the time, as given by System.nanoTime(), after which no more elements will be processed.
+     * @param lambda      - the Lambda object that contains the logic that will be run.
+     * @param collections - the collection/s that will have the logic run across each element.
+     * @param <R>         - the return type of the Lambda.lambda method and the type contained with the results.
+     * @param <E>         - the argument type of the Lambda.lambda method and the type contained with the given
+     *                    collection/s.
+     * @param <C>         - the type of the given collection e.g. List, Set, Map...
+     * @return - the results of the processed elements along with whether every element was processed.
+     */
+    public static <R, E, C extends Collection<E>> PartialResult<R> mapWithDeadline(long deadline, Lambda<R, E> lambda,
+                                                                                  C... collections) {
+        if (collections == null || collections.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapWithDeadline - collections cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapWithDeadline - lambda cannot be null.");
+
+        List<R> results = new ArrayList<R>();
+        Boolean complete = runOverCollectionUntil(deadline, results, lambda, collections);
+
+        return new PartialResult<R>(results, complete);
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided collection/s that contain objects of type &lt;E&gt;
+     * in parallel until either every element has been processed or the deadline has passed. Then return the results
+     * computed so far.
+     * <p/>
+     * The elements are handed out to the fork join workers in small chunks in order, so when the deadline passes the
+     * finished chunks are close to being a prefix of the collection/s. Only the results of the longest processed prefix
+     * are returned so that the results always belong to the first {@link PartialResult#getProcessed()} elements.
+     *
+     * @param deadline    - the time, as given by System.nanoTime(), after which no more elements will be processed.
+     * @param lambda      - the Lambda object that contains the logic that will be run. It must be safe to run from
+     *                    many threads at once.
+     * @param collections - the collection/s that will have the logic run across each element.
+     * @param <R>         - the return type of the Lambda.lambda method and the type contained with the results.
+     * @param <E>         - the argument type of the Lambda.lambda method and the type contained with the given
+     *                    collection/s.
+     * @param <C>         - the type of the given collection e.g. List, Set, Map...
+     * @return - the results of the processed elements along with whether every element was processed.
+     */
+    public static <R, E, C extends Collection<E>> PartialResult<R> parallelMapWithDeadline(long deadline,
+                                                                                          Lambda<R, E> lambda,
+                                                                                          C... collections) {
+        if (collections == null || collections.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelMapWithDeadline - collections cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelMapWithDeadline - lambda cannot be null.");
+
+        List<E>[] lists = toRandomAccess(collections);
+
+        return runOverListsInParallelUntil(deadline, lambda, lists, shortest(lists));
+    }
+
     /**
      * Run the logic within the lambda method across the provided collection/s that contain objects of type &lt;E&gt;.
      * <p/>
@@ -143,6 +288,33 @@ public class LambdaCollections {
         runOverCollection(lambda, collections);
     }
 
+    /**
+     * Run the logic within the lambda method across the provided collection that contain objects of type &lt;E&gt; in
+     * parallel.
+     * <p/>
+     * The lambda method will be run from many fork join workers at once, so any state it updates must be safe to update
+     * concurrently. Shared sums and counts should be kept in a striped accumulator such as LongAdder, DoubleAdder,
+     * ConcurrentHistogram or ConcurrentCounterMap so that the workers do not all contend for one cache line.
+     *
+     * @param lambda     - the Lambda object that contains the logic that will be run.
+     * @param collection - the collection that will have the logic run across each element. If it is not a random
+     *                   access list it is copied into one before the work is split.
+     * @param <E>        - the argument type of the Lambda.lambda method and the type contained with the given
+     *                   collection.
+     * @param <C>        - the type of the given collection e.g. List, Set, Map...
+     */
+    public static <E, C extends Collection<E>> void parallelMapC(Lambda<Object, E> lambda, C collection) {
+        if (collection == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelMapC - collection is null.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelMapC - lambda is null.");
+
+        List<E>[] lists = (List<E>[]) new List[]{toRandomAccess(collection)};
+        int size = lists[0].size();
+
+        ForkJoinPool.commonPool().invoke(new SideEffectTask<E>(lambda, lists, 0, size, RangeTask.threshold(size)));
+    }
+
     /**
      * Run the logic within the lambda method across the provided collection/s that contain collections with objects of
      * type &lt;E&gt;. Then return a collapsed single dimension collection of all the processed elements.
@@ -182,6 +354,48 @@ public class LambdaCollections {
         return mappedCollection;
     }
 
+    /**
+     * Run the logic within the lambda method across the provided collection/s that contain collections with objects of
+     * type &lt;E&gt; in parallel. Then return a collapsed single dimension collection of all the processed elements in
+     * the same order that {@link #mapCan(Class, Lambda, Collection[])} would produce them.
+     * <p/>
+     * The work is split by element count rather than by inner collection so a few very large inner collections are
+     * divided between the fork join workers. Inner collections that are not random access lists are copied into lists
+     * before the work is split.
+     *
+     * @param returnType  - the Class of the type of collection that should be returned e.g. List.class, Set.class,
+     *                    Map.class...
+     * @param lambda      - the Lambda object that contains the logic that will be run. It must be safe to run from
+     *                    many threads at once.
+     * @param collections - the 2 dimensional collection/s that will have the logic run across each element.
+     * @param <R>         - the return type of the Lambda.lambda method and the type contained with the returned
+     *                    collection.
+     * @param <E>         - the argument type of the Lambda.lambda method and the type contained with the given
+     *                    collections contains within the given collection/s.
+     * @param <RC>        - the type of the returned collection e.g. List, Set, Map... This is set by the
+     *                    returnType argument.
+     * @param <C>         - the type of the given collection e.g. List<Set>, Set<Set>, Map<Collection>...
+     * @return - a single dimension collection containing the lambda results.
+     */
+    public static <R, E, RC extends Collection<R>, C extends Collection<Collection<E>>> RC parallelMapCan(
+            Class<RC> returnType, Lambda<R, E> lambda, C... collections) {
+        if (returnType == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelMapCan - returnType cannot be null.");
+        if (collections == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelMapCan - collections cannot be null.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelMapCan - lambda cannot be null.");
+
+        RC mappedCollection = collections.length == 0 ? null
+                : instantiateCollection(returnType);
+
+        if (mappedCollection != null) {
+            runOverDeepCollectionInParallel(mappedCollection, lambda, collections);
+        }
+
+        return mappedCollection;
+    }
+
     /**
      * Run the logic within the lambda method across the provided list/s that contain objects of type &lt;E&gt;.
      * The argument for the Lambda.lambda method when used with this method is a list containing the rest of the
@@ -291,160 +505,1459 @@ public class LambdaCollections {
     }
 
     /**
-     * Create a new instantiation of any collection class type that is passed to the method.
-     * <p/>
-     * Handles all of the standard Java collection interfaces and any instantiable collection implementation.
-     * Cannot handle any collection interfaces outside of the Java api.
+     * Return the first element/s for which the lambda returns true or not null, along with their position. This uses
+     * the same rule as {@link #some(Lambda, Collection[])} and stops at the first match.
      *
-     * @param returnType - the type of collection that is to be instantiated.
-     * @param <E>        - the type of class that is contained within the collection.
-     * @param <RC>       - the type of collection that is to be returned.
-     * @return - a new empty instantiation of the given collection type.
+     * @param lambda      - the Lambda object that contains the logic that will be run.
+     * @param collections - the collection/s that will have the logic run across each element.
+     * @param <R>         - the return type of the Lambda.lambda method.
+     * @param <E>         - the argument type of the Lambda.lambda method and the type contained with the given
+     *                    collection/s.
+     * @param <C>         - the type of the given collection e.g. List, Set, Map...
+     * @return - the first match or null if no evaluation of the lambda method returned true or not null.
      */
-    private static <E, RC extends Collection<E>> RC instantiateCollection(Class<RC> returnType) {
-        RC newCollection = null;
-
-        try {
-            // Boilerplate code to handle all the default Java collection interfaces. It would be nice if Java had a
-            // default implementation of collection that all the other classes used so it could be instantiated and then
-            // cast into the required subclass. Unfortunately AbstractCollection isn't quite enough for what I need.
-            if (returnType.isInterface()) {
+    public static <R, E, C extends Collection<E>> Match<E> find(Lambda<R, E> lambda, C... collections) {
+        if (collections == null || collections.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.find - collections cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.find - lambda cannot be null.");
 
-                if (BeanContext.class.isAssignableFrom(returnType)) {
-                    newCollection = (RC) new BeanContextSupport();
-                } else if (BeanContextServices.class.isAssignableFrom(returnType)) {
-                    newCollection = (RC) new BeanContextServicesSupport();
-                } else if (BlockingDeque.class.isAssignableFrom(returnType)) {
-                    newCollection = (RC) new LinkedBlockingDeque<E>();
-                } else if (BlockingQueue.class.isAssignableFrom(returnType)) {
-                    newCollection = (RC) new LinkedBlockingQueue<E>();
-                } else if (Deque.class.isAssignableFrom(returnType)) {
-                    newCollection = (RC) new ArrayDeque<E>();
-                } else if (List.class.isAssignableFrom(returnType)) {
-                    newCollection = (RC) new ArrayList<E>();
-                } else if (NavigableSet.class.isAssignableFrom(returnType)) {
-                    newCollection = (RC) new TreeSet<E>();
-                } else if (Queue.class.isAssignableFrom(returnType)) {
-                    newCollection = (RC) new PriorityQueue<E>();
-                } else if (Set.class.isAssignableFrom(returnType)) {
-                    newCollection = (RC) new HashSet<E>();
-                } else if (SortedSet.class.isAssignableFrom(returnType)) {
-                    newCollection = (RC) new TreeSet<E>();
-                } else if (Collection.class.isAssignableFrom(returnType)) {
-                    newCollection = (RC) new Vector();
-                }
+        Iterator<E>[] iterators = getIterators(collections);
+        E[] arguments = null;
+        R result = null;
+        for (int i = 0; haveNext(iterators); i++) {
+            arguments = assignValues(iterators);
 
-                if (newCollection == null) {
-                    throw new InstantiationException(
-                            "org.lambda.util.LambdaCollections.map - does not recognise the collection interface "
-                                    + returnType.getName());
-                }
-            } else {
-                newCollection = returnType.newInstance();
-            }
-        } catch (InstantiationException e) {
-            // TODO properly handle failed collection instantiation.
-            throw new RuntimeException("org.lambda.util.LambdaCollections.map - collection type could not be instantiated. "
-                    + e.getMessage());
-        } catch (IllegalAccessException e) {
-            // TODO properly handle illegal access exception.
-            throw new RuntimeException("org.lambda.util.LambdaCollections.map - collection type could not be accessed. "
-                    + e.getMessage());
+            result = lambda.lambda(arguments);
+            if (null != result && !Boolean.FALSE.equals(result)) return new Match<E>(i, arguments);
         }
 
-        return newCollection;
+        return null;
     }
 
     /**
-     * Run the given logic in the Lambda class over the provided collection/s.
-     * <p/>
-     * The return type for the Lambda class is set strictly to Object. This is because the return type in this method
-     * is irrelevant.
+     * Return the position of the first element/s for which the lambda returns true or not null.
      *
      * @param lambda      - the Lambda object that contains the logic that will be run.
      * @param collections - the collection/s that will have the logic run across each element.
-     * @param <E>         - the argument type of the Lambda.lambda method and the type contained with the provided
+     * @param <R>         - the return type of the Lambda.lambda method.
+     * @param <E>         - the argument type of the Lambda.lambda method and the type contained with the given
      *                    collection/s.
+     * @param <C>         - the type of the given collection e.g. List, Set, Map...
+     * @return - the position of the first match or -1 if no evaluation of the lambda method returned true or not null.
+     * @see #find(Lambda, Collection[])
      */
-    private static <E> void runOverCollection(Lambda<Object, E> lambda, Collection<E>... collections) {
-        E[] arguments = null;
-        Iterator<E>[] iterators = getIterators(collections);
-        while (haveNext(iterators)) {
-            arguments = assignValues(iterators);
+    public static <R, E, C extends Collection<E>> int findIndex(Lambda<R, E> lambda, C... collections) {
+        Match<E> match = find(lambda, collections);
 
-            lambda.lambda(arguments);
-        }
+        return match == null ? -1 : match.getIndex();
     }
 
     /**
-     * Run the given logic in the Lambda class over the provided collection/s and place the processed elements into the
-     * provided return collection.
+     * Return the first element/s for which the lambda returns true or not null, along with their position, searching
+     * in parallel. The result is always the same as {@link #find(Lambda, Collection[])}.
+     * <p/>
+     * The fork join workers claim chunks of the collection/s in order. Once a match has been found no worker evaluates
+     * an element after it, but elements before it are still searched in case there is an earlier match.
      *
-     * @param mappedCollection - the collection that will have the lambda results added to it.
-     * @param lambda           - the Lambda object that contains the logic that will be run.
-     * @param collections      - the collection/s that will have the logic run across each element.
-     * @param <R>              - the return type of the Lambda.lambda method and the type contained with the returned
-     *                         collection.
-     * @param <E>              - the argument type of the Lambda.lambda method and the type contained with the provided
-     *                         collection/s.
+     * @param lambda      - the Lambda object that contains the logic that will be run.
+     * @param collections - the collection/s that will have the logic run across each element.
+     * @param <R>         - the return type of the Lambda.lambda method.
+     * @param <E>         - the argument type of the Lambda.lambda method and the type contained with the given
+     *                    collection/s.
+     * @param <C>         - the type of the given collection e.g. List, Set, Map...
+     * @return - the first match or null if no evaluation of the lambda method returned true or not null.
      */
-    private static <R, E> void runOverCollection(Collection<R> mappedCollection, Lambda<R, E> lambda,
-                                                 Collection<E>... collections) {
-        E[] arguments = null;
-        Iterator<E>[] iterators = getIterators(collections);
-        while (haveNext(iterators)) {
-            arguments = assignValues(iterators);
+    public static <R, E, C extends Collection<E>> Match<E> parallelFind(Lambda<R, E> lambda, C... collections) {
+        if (collections == null || collections.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelFind - collections cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelFind - lambda cannot be null.");
 
-            mappedCollection.add(lambda.lambda(arguments));
-        }
+        List<E>[] lists = toRandomAccess(collections);
+        int index = runFindInParallel(lambda, lists, shortest(lists));
+
+        return index == -1 ? null : new Match<E>(index, LambdaCollections.<E>assignValues(index, lists));
     }
 
     /**
-     * Run the logic within the lambda method across the provided collection/s that contain collections with objects of
-     * type &lt;E&gt; and collapse the processed elements into a single dimension collection.
+     * Return the position of the first element/s for which the lambda returns true or not null, searching in parallel.
      *
-     * @param mappedCollection - the single dimension collection that will have the lambda results added to it.
-     * @param lambda           - the Lambda object that contains the logic that will be run.
-     * @param collections      - the 2 dimensional collection/s that will have the logic run across each element.
-     * @param <R>              - the return type of the Lambda.lambda method and the type contained with the provided
-     *                         single dimension collection.
-     * @param <E>              - the argument type of the Lambda.lambda method and the type of the collection/s
-     *                         contained within the given collection.
+     * @param lambda      - the Lambda object that contains the logic that will be run.
+     * @param collections - the collection/s that will have the logic run across each element.
+     * @param <R>         - the return type of the Lambda.lambda method.
+     * @param <E>         - the argument type of the Lambda.lambda method and the type contained with the given
+     *                    collection/s.
+     * @param <C>         - the type of the given collection e.g. List, Set, Map...
+     * @return - the position of the first match or -1 if no evaluation of the lambda method returned true or not null.
+     * @see #parallelFind(Lambda, Collection[])
      */
-    private static <R, E> void runOverDeepCollection(Collection<R> mappedCollection, Lambda<R, E> lambda,
-                                                     Collection<Collection<E>>... collections) {
-        Collection<E>[] arguments = null;
-        Iterator<Collection<E>>[] iterators = getIterators(collections);
-        while (haveNext(iterators)) {
-            arguments = assignValues(iterators);
+    public static <R, E, C extends Collection<E>> int parallelFindIndex(Lambda<R, E> lambda, C... collections) {
+        if (collections == null || collections.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelFindIndex - collections cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelFindIndex - lambda cannot be null.");
 
-            runOverCollection(mappedCollection, lambda, arguments);
-        }
+        List<E>[] lists = toRandomAccess(collections);
+
+        return runFindInParallel(lambda, lists, shortest(lists));
     }
 
     /**
-     * Run the logic within the lambda method across the provided list/s that contain objects of type &lt;E&gt;.
-     * The argument for the Lambda.lambda method when used with this method is a list/s containing the rest of the
-     * elements that are yet to be processed e,g. the current element that is to be process along with the remaining
+     * Run the logic within the lambda method across the collection/s and return the distinct results. The results are
+     * held in an {@link OpenHashSet} which stores each distinct result in a single array slot, rather than the entry
+     * node per result that HashSet would need.
+     *
+     * @param lambda      - the Lambda object that contains the logic that will be run.
+     * @param collections - the collection/s that will have the logic run across each element.
+     * @param <R>         - the return type of the Lambda.lambda method and the type contained with the returned set.
+     * @param <E>         - the argument type of the Lambda.lambda method and the type contained with the given
+     *                    collection/s.
+     * @param <C>         - the type of the given collection e.g. List, Set, Map...
+     * @return - a set containing each distinct result of the lambda method.
+     */
+    public static <R, E, C extends Collection<E>> OpenHashSet<R> mapDistinct(Lambda<R, E> lambda, C... collections) {
+        if (collections == null || collections.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapDistinct - collections cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapDistinct - lambda cannot be null.");
+
+        OpenHashSet<R> distinct = new OpenHashSet<R>();
+        runOverCollection(distinct, lambda, collections);
+
+        return distinct;
+    }
+
+    /**
+     * Run the logic within the lambda method across the collection/s and return the distinct results as primitive longs
+     * in a {@link LongOpenHashSet}, so neither the results nor the set entries are boxed.
+     *
+     * @param lambda      - the ToLongLambda object that contains the logic that will be run.
+     * @param collections - the collection/s that will have the logic run across each element.
+     * @param <E>         - the argument type of the ToLongLambda.lambda method and the type contained with the given
+     *                    collection/s.
+     * @param <C>         - the type of the given collection e.g. List, Set, Map...
+     * @return - a set containing each distinct result of the lambda method.
+     */
+    public static <E, C extends Collection<E>> LongOpenHashSet mapDistinctLong(ToLongLambda<E> lambda,
+                                                                              C... collections) {
+        if (collections == null || collections.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapDistinctLong - collections cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapDistinctLong - lambda cannot be null.");
+
+        LongOpenHashSet distinct = new LongOpenHashSet();
+        Iterator<E>[] iterators = getIterators(collections);
+        while (haveNext(iterators)) {
+            distinct.add(lambda.lambda(LambdaCollections.<E>assignValues(iterators)));
+        }
+
+        return distinct;
+    }
+
+    /**
+     * Run the logic within the lambda method across the collection/s in parallel and return the distinct results. Each
+     * fork join worker collects into its own set, without any locking, and the sets are merged into the largest one
+     * once every element has been processed.
+     *
+     * @param lambda      - the Lambda object that contains the logic that will be run.
+     * @param collections - the collection/s that will have the logic run across each element.
+     * @param <R>         - the return type of the Lambda.lambda method and the type contained with the returned set.
+     * @param <E>         - the argument type of the Lambda.lambda method and the type contained with the given
+     *                    collection/s.
+     * @param <C>         - the type of the given collection e.g. List, Set, Map...
+     * @return - a set containing each distinct result of the lambda method.
+     * @see #mapDistinct(Lambda, Collection[])
+     */
+    public static <R, E, C extends Collection<E>> OpenHashSet<R> parallelMapDistinct(Lambda<R, E> lambda,
+                                                                                    C... collections) {
+        if (collections == null || collections.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelMapDistinct - collections cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelMapDistinct - lambda cannot be null.");
+
+        List<E>[] lists = toRandomAccess(collections);
+        int size = shortest(lists);
+        DistinctTask<R, E> task = new DistinctTask<R, E>(lambda, lists, size);
+        task.invoke();
+
+        OpenHashSet<R> distinct = new OpenHashSet<R>();
+        for (OpenHashSet<R> set : task.sets) {
+            if (set != null && set.size() > distinct.size()) distinct = set;
+        }
+        for (OpenHashSet<R> set : task.sets) {
+            if (set != null && set != distinct) distinct.addAll(set);
+        }
+
+        return distinct;
+    }
+
+    /**
+     * Run the logic within the lambda method across the collection/s in parallel and return the distinct results as
+     * primitive longs. Each fork join worker collects into its own set and the sets are merged at the end.
+     *
+     * @param lambda      - the ToLongLambda object that contains the logic that will be run.
+     * @param collections - the collection/s that will have the logic run across each element.
+     * @param <E>         - the argument type of the ToLongLambda.lambda method and the type contained with the given
+     *                    collection/s.
+     * @param <C>         - the type of the given collection e.g. List, Set, Map...
+     * @return - a set containing each distinct result of the lambda method.
+     * @see #mapDistinctLong(ToLongLambda, Collection[])
+     */
+    public static <E, C extends Collection<E>> LongOpenHashSet parallelMapDistinctLong(ToLongLambda<E> lambda,
+                                                                                      C... collections) {
+        if (collections == null || collections.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelMapDistinctLong - collections cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.parallelMapDistinctLong - lambda cannot be null.");
+
+        List<E>[] lists = toRandomAccess(collections);
+        int size = shortest(lists);
+        LongDistinctTask<E> task = new LongDistinctTask<E>(lambda, lists, size);
+        task.invoke();
+
+        LongOpenHashSet distinct = new LongOpenHashSet();
+        for (LongOpenHashSet set : task.sets) {
+            if (set != null && set.size() > distinct.size()) distinct = set;
+        }
+        for (LongOpenHashSet set : task.sets) {
+            if (set != null && set != distinct) distinct.addAll(set);
+        }
+
+        return distinct;
+    }
+
+    /**
+     * Run the logic within the lambda method across the collection/s and return the distinct results as primitive
+     * longs, checking each result against a Bloom filter first. A result the filter has seen is rejected as a repeat
+     * without the set being touched, so only results that are certainly new are ever added to it.
+     * <p/>
+     * The filter is keyed on the whole 64 bit result and sized from the number of elements in the zip of the
+     * collection/s. A distinct result is wrongly rejected with roughly the given false positive rate, so the returned
+     * set may be missing some distinct results but never contains a result twice.
+     *
+     * @param falsePositiveRate - the chance of a distinct result being rejected, between 0 and 1 exclusive.
+     * @param lambda            - the ToLongLambda object that contains the logic that will be run.
+     * @param collections       - the collection/s that will have the logic run across each element.
+     * @param <E>               - the argument type of the ToLongLambda.lambda method and the type contained with the
+     *                          given collection/s.
+     * @param <C>               - the type of the given collection e.g. List, Set, Map...
+     * @return - a set containing most of the distinct results of the lambda method.
+     */
+    public static <E, C extends Collection<E>> LongOpenHashSet mapDistinctApproximateLong(double falsePositiveRate,
+                                                                                         ToLongLambda<E> lambda,
+                                                                                         C... collections) {
+        if (collections == null || collections.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapDistinctApproximateLong - collections cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapDistinctApproximateLong - lambda cannot be null.");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) throw new IllegalArgumentException(
+                "org.lambda.util.LambdaCollections.mapDistinctApproximateLong - falsePositiveRate must be within (0, 1).");
+
+        BloomFilter seen = new BloomFilter(shortest(collections), falsePositiveRate);
+        LongOpenHashSet distinct = new LongOpenHashSet();
+
+        long result;
+        Iterator<E>[] iterators = getIterators(collections);
+        while (haveNext(iterators)) {
+            result = lambda.lambda(LambdaCollections.<E>assignValues(iterators));
+
+            if (seen.add(result)) distinct.add(result);
+        }
+
+        return distinct;
+    }
+
+    /**
+     * Run the logic within the lambda method across the elements pulled from the provided iterator/s. Then place each
+     * processed element into the provided return collection.
+     * <p/>
+     * The iterators are treated as streams: one element is pulled from each iterator for every evaluation and nothing
+     * is buffered, so an unbounded source can be mapped in constant memory. If the return collection is a
+     * BlockingQueue each result is put into it, waiting for space if it is bounded, so a consumer on another thread
+     * can drain it while the map runs.
+     *
+     * @param returnCollection - the collection that will have the processed elements added to it.
+     * @param lambda           - the Lambda object that contains the logic that will be run.
+     * @param iterators        - the iterator/s whose elements will have the logic run across them.
+     * @param <R>              - the return type of the Lambda.lambda method and the type contained with the returned
+     *                         collection.
+     * @param <E>              - the argument type of the Lambda.lambda method and the type returned by the given
+     *                         iterator/s.
+     * @param <RC>             - the type of the returned collection e.g. List, Set, BlockingQueue...
+     * @return - the collection that was passed in as the returnCollection.
+     */
+    public static <R, E, RC extends Collection<R>> RC map(RC returnCollection, Lambda<R, E> lambda,
+                                                          Iterator<E>... iterators) {
+        if (returnCollection == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - return collections is null.");
+        if (iterators == null || iterators.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - iterators cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - lambda is null.");
+
+        E[] arguments = null;
+        while (haveNext(iterators)) {
+            arguments = assignValues(iterators);
+
+            addResult(returnCollection, lambda.lambda(arguments));
+        }
+
+        return returnCollection;
+    }
+
+    /**
+     * Run the logic within the lambda method across the elements of the provided iterable/s. Then place each processed
+     * element into the provided return collection.
+     *
+     * @param returnCollection - the collection that will have the processed elements added to it.
+     * @param lambda           - the Lambda object that contains the logic that will be run.
+     * @param iterables        - the iterable/s whose elements will have the logic run across them.
+     * @param <R>              - the return type of the Lambda.lambda method and the type contained with the returned
+     *                         collection.
+     * @param <E>              - the argument type of the Lambda.lambda method and the type contained with the given
+     *                         iterable/s.
+     * @param <RC>             - the type of the returned collection e.g. List, Set, BlockingQueue...
+     * @return - the collection that was passed in as the returnCollection.
+     * @see #map(Collection, Lambda, Iterator[])
+     */
+    public static <R, E, RC extends Collection<R>> RC map(RC returnCollection, Lambda<R, E> lambda,
+                                                          Iterable<E>... iterables) {
+        if (iterables == null || iterables.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - iterables cannot be null or empty.");
+
+        return map(returnCollection, lambda, getIterators(iterables));
+    }
+
+    /**
+     * Return true if any evaluation of lambda returns true or not null when run across the elements pulled from the
+     * provided iterator/s.
+     * <p/>
+     * No more elements are pulled from the iterator/s once the lambda method has returned a not null or true value.
+     *
+     * @param lambda    - the Lambda object that contains the logic that will be run.
+     * @param iterators - the iterator/s whose elements will have the logic run across them.
+     * @param <R>       - the return type of the Lambda.lambda method.
+     * @param <E>       - the argument type of the Lambda.lambda method and the type returned by the given
+     *                  iterator/s.
+     * @return - true if a non null or true value is returned from an evaluation of the lambda method otherwise false.
+     */
+    public static <R, E> Boolean some(Lambda<R, E> lambda, Iterator<E>... iterators) {
+        if (iterators == null || iterators.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.some - iterators cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.some - lambda cannot be null.");
+
+        R result = null;
+        while (haveNext(iterators)) {
+            result = lambda.lambda(assignValues(iterators));
+            if (null != result && !Boolean.FALSE.equals(result)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Return true if any evaluation of lambda returns true or not null when run across the elements of the provided
+     * iterable/s.
+     *
+     * @param lambda    - the Lambda object that contains the logic that will be run.
+     * @param iterables - the iterable/s whose elements will have the logic run across them.
+     * @param <R>       - the return type of the Lambda.lambda method.
+     * @param <E>       - the argument type of the Lambda.lambda method and the type contained with the given
+     *                  iterable/s.
+     * @return - true if a non null or true value is returned from an evaluation of the lambda method otherwise false.
+     * @see #some(Lambda, Iterator[])
+     */
+    public static <R, E> Boolean some(Lambda<R, E> lambda, Iterable<E>... iterables) {
+        if (iterables == null || iterables.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.some - iterables cannot be null or empty.");
+
+        return some(lambda, getIterators(iterables));
+    }
+
+    /**
+     * Return true if all evaluations of lambda return true or not null when run across the elements pulled from the
+     * provided iterator/s.
+     * <p/>
+     * No more elements are pulled from the iterator/s once the lambda method has returned a null or false value.
+     *
+     * @param lambda    - the Lambda object that contains the logic that will be run.
+     * @param iterators - the iterator/s whose elements will have the logic run across them.
+     * @param <R>       - the return type of the Lambda.lambda method.
+     * @param <E>       - the argument type of the Lambda.lambda method and the type returned by the given
+     *                  iterator/s.
+     * @return - true if a non null or true value is returned from all evaluations of the lambda method otherwise false.
+     */
+    public static <R, E> Boolean every(Lambda<R, E> lambda, Iterator<E>... iterators) {
+        if (iterators == null || iterators.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.every - iterators cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.every - lambda cannot be null.");
+
+        R result = null;
+        while (haveNext(iterators)) {
+            result = lambda.lambda(assignValues(iterators));
+            if (null == result || Boolean.FALSE.equals(result)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Return true if all evaluations of lambda return true or not null when run across the elements of the provided
+     * iterable/s.
+     *
+     * @param lambda    - the Lambda object that contains the logic that will be run.
+     * @param iterables - the iterable/s whose elements will have the logic run across them.
+     * @param <R>       - the return type of the Lambda.lambda method.
+     * @param <E>       - the argument type of the Lambda.lambda method and the type contained with the given
+     *                  iterable/s.
+     * @return - true if a non null or true value is returned from all evaluations of the lambda method otherwise false.
+     * @see #every(Lambda, Iterator[])
+     */
+    public static <R, E> Boolean every(Lambda<R, E> lambda, Iterable<E>... iterables) {
+        if (iterables == null || iterables.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.every - iterables cannot be null or empty.");
+
+        return every(lambda, getIterators(iterables));
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided array/s that contain objects of type &lt;E&gt;. Then
+     * return a new list, presized to the length of the shortest array, containing the results.
+     * <p/>
+     * The arrays are read with indexed loops so no collection or iterator is created for them.
+     *
+     * @param lambda - the Lambda object that contains the logic that will be run.
+     * @param arrays - the array/s that will have the logic run across each element.
+     * @param <R>    - the return type of the Lambda.lambda method and the type contained with the returned list.
+     * @param <E>    - the argument type of the Lambda.lambda method and the component type of the given array/s.
+     * @return - a new list containing the results of the lambda method.
+     */
+    public static <R, E> List<R> map(Lambda<R, E> lambda, E[]... arrays) {
+        if (arrays == null || arrays.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - arrays cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - lambda cannot be null.");
+
+        int length = shortest(arrays);
+        List<R> mappedList = new ArrayList<R>(length);
+        for (int i = 0; i < length; i++) {
+            mappedList.add(lambda.lambda(assignValues(i, arrays)));
+        }
+
+        return mappedList;
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided array/s that contain objects of type &lt;E&gt;. Then
+     * place each result into the provided return array at the index of the element/s it was computed from.
+     *
+     * @param returnArray - the array that the results will be written to. It must be at least as long as the shortest
+     *                    given array.
+     * @param lambda      - the Lambda object that contains the logic that will be run.
+     * @param arrays      - the array/s that will have the logic run across each element.
+     * @param <R>         - the return type of the Lambda.lambda method and the component type of the return array.
+     * @param <E>         - the argument type of the Lambda.lambda method and the component type of the given array/s.
+     * @return - the array that was passed in as the returnArray.
+     */
+    public static <R, E> R[] map(R[] returnArray, Lambda<R, E> lambda, E[]... arrays) {
+        if (returnArray == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - return array is null.");
+        if (arrays == null || arrays.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - arrays cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - lambda cannot be null.");
+
+        int length = shortest(arrays);
+        if (returnArray.length < length) throw new IllegalArgumentException(
+                "org.lambda.util.LambdaCollections.map - return array is shorter than " + length + ".");
+
+        for (int i = 0; i < length; i++) {
+            returnArray[i] = lambda.lambda(assignValues(i, arrays));
+        }
+
+        return returnArray;
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided array/s that contain objects of type &lt;E&gt;.
+     * <p/>
+     * The return type for the Lambda class is set strictly to Object. This is because the return type in this method
+     * is irrelevant.
+     *
+     * @param lambda - the Lambda object that contains the logic that will be run.
+     * @param array  - the array that will have the logic run across each element.
+     * @param <E>    - the argument type of the Lambda.lambda method and the component type of the given array.
+     */
+    public static <E> void mapC(Lambda<Object, E> lambda, E[] array) {
+        if (array == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapC - array is null.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapC - lambda is null.");
+
+        E[][] arrays = (E[][]) Array.newInstance(array.getClass(), 1);
+        arrays[0] = array;
+        for (int i = 0; i < array.length; i++) {
+            lambda.lambda(assignValues(i, arrays));
+        }
+    }
+
+    /**
+     * Return true if any evaluation of lambda returns true or not null when run across the elements within the provided
+     * array/s. The lambda method will be iteratively evaluated until it returns a not null or true value.
+     *
+     * @param lambda - the Lambda object that contains the logic that will be run.
+     * @param arrays - the array/s that will have the logic run across each element.
+     * @param <R>    - the return type of the Lambda.lambda method.
+     * @param <E>    - the argument type of the Lambda.lambda method and the component type of the given array/s.
+     * @return - true if a non null or true value is returned from an evaluation of the lambda method otherwise false.
+     */
+    public static <R, E> Boolean some(Lambda<R, E> lambda, E[]... arrays) {
+        if (arrays == null || arrays.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.some - arrays cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.some - lambda cannot be null.");
+
+        R result = null;
+        for (int i = 0, length = shortest(arrays); i < length; i++) {
+            result = lambda.lambda(assignValues(i, arrays));
+            if (null != result && !Boolean.FALSE.equals(result)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Return true if all evaluations of lambda return true or not null when run across the elements within the provided
+     * array/s. The lambda method will be iteratively evaluated until it returns a null or false value.
+     *
+     * @param lambda - the Lambda object that contains the logic that will be run.
+     * @param arrays - the array/s that will have the logic run across each element.
+     * @param <R>    - the return type of the Lambda.lambda method.
+     * @param <E>    - the argument type of the Lambda.lambda method and the component type of the given array/s.
+     * @return - true if a non null or true value is returned from all evaluations of the lambda method otherwise false.
+     */
+    public static <R, E> Boolean every(Lambda<R, E> lambda, E[]... arrays) {
+        if (arrays == null || arrays.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.every - arrays cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.every - lambda cannot be null.");
+
+        R result = null;
+        for (int i = 0, length = shortest(arrays); i < length; i++) {
+            result = lambda.lambda(assignValues(i, arrays));
+            if (null == result || Boolean.FALSE.equals(result)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided int array/s. Then return a new list, presized to the
+     * length of the shortest array, containing the results.
+     * <p/>
+     * The elements are never boxed. A single int array is reused to pass the argument/s to every evaluation of the
+     * lambda method so it must not be kept by the lambda.
+     *
+     * @param lambda - the IntLambda object that contains the logic that will be run.
+     * @param arrays - the int array/s that will have the logic run across each element.
+     * @param <R>    - the return type of the IntLambda.lambda method and the type contained with the returned list.
+     * @return - a new list containing the results of the lambda method.
+     */
+    public static <R> List<R> map(IntLambda<R> lambda, int[]... arrays) {
+        if (arrays == null || arrays.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - arrays cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - lambda cannot be null.");
+
+        int length = shortest(arrays);
+        List<R> mappedList = new ArrayList<R>(length);
+        int[] arguments = new int[arrays.length];
+        for (int i = 0; i < length; i++) {
+            mappedList.add(lambda.lambda(assignValues(i, arrays, arguments)));
+        }
+
+        return mappedList;
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided int array/s. Then place each result into the
+     * provided return array at the index of the element/s it was computed from.
+     * <p/>
+     * The elements are never boxed. A single int array is reused to pass the argument/s to every evaluation of the
+     * lambda method so it must not be kept by the lambda.
+     *
+     * @param returnArray - the array that the results will be written to. It must be at least as long as the shortest
+     *                    given array.
+     * @param lambda      - the IntLambda object that contains the logic that will be run.
+     * @param arrays      - the int array/s that will have the logic run across each element.
+     * @param <R>         - the return type of the IntLambda.lambda method and the component type of the return array.
+     * @return - the array that was passed in as the returnArray.
+     */
+    public static <R> R[] map(R[] returnArray, IntLambda<R> lambda, int[]... arrays) {
+        if (returnArray == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - return array is null.");
+        if (arrays == null || arrays.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - arrays cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - lambda cannot be null.");
+
+        int length = shortest(arrays);
+        if (returnArray.length < length) throw new IllegalArgumentException(
+                "org.lambda.util.LambdaCollections.map - return array is shorter than " + length + ".");
+
+        int[] arguments = new int[arrays.length];
+        for (int i = 0; i < length; i++) {
+            returnArray[i] = lambda.lambda(assignValues(i, arrays, arguments));
+        }
+
+        return returnArray;
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided int array without boxing its elements.
+     * <p/>
+     * The return type for the IntLambda class is set strictly to Object. This is because the return type in this
+     * method is irrelevant. A single int array is reused to pass the argument to every evaluation of the lambda method
+     * so it must not be kept by the lambda.
+     *
+     * @param lambda - the IntLambda object that contains the logic that will be run.
+     * @param array  - the int array that will have the logic run across each element.
+     */
+    public static void mapC(IntLambda<Object> lambda, int[] array) {
+        if (array == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapC - array is null.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapC - lambda is null.");
+
+        int[] arguments = new int[1];
+        for (int value : array) {
+            arguments[0] = value;
+
+            lambda.lambda(arguments);
+        }
+    }
+
+    /**
+     * Return true if any evaluation of lambda returns true or not null when run across the elements within the provided
+     * int array/s, without boxing the elements. The lambda method will be iteratively evaluated until it returns a not
+     * null or true value. A single int array is reused to pass the argument/s to every evaluation of the lambda method
+     * so it must not be kept by the lambda.
+     *
+     * @param lambda - the IntLambda object that contains the logic that will be run.
+     * @param arrays - the int array/s that will have the logic run across each element.
+     * @param <R>    - the return type of the IntLambda.lambda method.
+     * @return - true if a non null or true value is returned from an evaluation of the lambda method otherwise false.
+     */
+    public static <R> Boolean some(IntLambda<R> lambda, int[]... arrays) {
+        if (arrays == null || arrays.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.some - arrays cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.some - lambda cannot be null.");
+
+        R result = null;
+        int[] arguments = new int[arrays.length];
+        for (int i = 0, length = shortest(arrays); i < length; i++) {
+            result = lambda.lambda(assignValues(i, arrays, arguments));
+            if (null != result && !Boolean.FALSE.equals(result)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Return true if all evaluations of lambda return true or not null when run across the elements within the provided
+     * int array/s, without boxing the elements. The lambda method will be iteratively evaluated until it returns a
+     * null or false value. A single int array is reused to pass the argument/s to every evaluation of the lambda
+     * method so it must not be kept by the lambda.
+     *
+     * @param lambda - the IntLambda object that contains the logic that will be run.
+     * @param arrays - the int array/s that will have the logic run across each element.
+     * @param <R>    - the return type of the IntLambda.lambda method.
+     * @return - true if a non null or true value is returned from all evaluations of the lambda method otherwise false.
+     */
+    public static <R> Boolean every(IntLambda<R> lambda, int[]... arrays) {
+        if (arrays == null || arrays.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.every - arrays cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.every - lambda cannot be null.");
+
+        R result = null;
+        int[] arguments = new int[arrays.length];
+        for (int i = 0, length = shortest(arrays); i < length; i++) {
+            result = lambda.lambda(assignValues(i, arrays, arguments));
+            if (null == result || Boolean.FALSE.equals(result)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided long array/s. Then return a new list, presized to the
+     * length of the shortest array, containing the results.
+     * <p/>
+     * The elements are never boxed. A single long array is reused to pass the argument/s to every evaluation of the
+     * lambda method so it must not be kept by the lambda.
+     *
+     * @param lambda - the LongLambda object that contains the logic that will be run.
+     * @param arrays - the long array/s that will have the logic run across each element.
+     * @param <R>    - the return type of the LongLambda.lambda method and the type contained with the returned list.
+     * @return - a new list containing the results of the lambda method.
+     */
+    public static <R> List<R> map(LongLambda<R> lambda, long[]... arrays) {
+        if (arrays == null || arrays.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - arrays cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - lambda cannot be null.");
+
+        int length = shortest(arrays);
+        List<R> mappedList = new ArrayList<R>(length);
+        long[] arguments = new long[arrays.length];
+        for (int i = 0; i < length; i++) {
+            mappedList.add(lambda.lambda(assignValues(i, arrays, arguments)));
+        }
+
+        return mappedList;
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided long array/s. Then place each result into the
+     * provided return array at the index of the element/s it was computed from.
+     * <p/>
+     * The elements are never boxed. A single long array is reused to pass the argument/s to every evaluation of the
+     * lambda method so it must not be kept by the lambda.
+     *
+     * @param returnArray - the array that the results will be written to. It must be at least as long as the shortest
+     *                    given array.
+     * @param lambda      - the LongLambda object that contains the logic that will be run.
+     * @param arrays      - the long array/s that will have the logic run across each element.
+     * @param <R>         - the return type of the LongLambda.lambda method and the component type of the return array.
+     * @return - the array that was passed in as the returnArray.
+     */
+    public static <R> R[] map(R[] returnArray, LongLambda<R> lambda, long[]... arrays) {
+        if (returnArray == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - return array is null.");
+        if (arrays == null || arrays.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - arrays cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.map - lambda cannot be null.");
+
+        int length = shortest(arrays);
+        if (returnArray.length < length) throw new IllegalArgumentException(
+                "org.lambda.util.LambdaCollections.map - return array is shorter than " + length + ".");
+
+        long[] arguments = new long[arrays.length];
+        for (int i = 0; i < length; i++) {
+            returnArray[i] = lambda.lambda(assignValues(i, arrays, arguments));
+        }
+
+        return returnArray;
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided long array without boxing its elements.
+     * <p/>
+     * The return type for the LongLambda class is set strictly to Object. This is because the return type in this
+     * method is irrelevant. A single long array is reused to pass the argument to every evaluation of the lambda method
+     * so it must not be kept by the lambda.
+     *
+     * @param lambda - the LongLambda object that contains the logic that will be run.
+     * @param array  - the long array that will have the logic run across each element.
+     */
+    public static void mapC(LongLambda<Object> lambda, long[] array) {
+        if (array == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapC - array is null.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.mapC - lambda is null.");
+
+        long[] arguments = new long[1];
+        for (long value : array) {
+            arguments[0] = value;
+
+            lambda.lambda(arguments);
+        }
+    }
+
+    /**
+     * Return true if any evaluation of lambda returns true or not null when run across the elements within the provided
+     * long array/s, without boxing the elements. The lambda method will be iteratively evaluated until it returns a not
+     * null or true value. A single long array is reused to pass the argument/s to every evaluation of the lambda method
+     * so it must not be kept by the lambda.
+     *
+     * @param lambda - the LongLambda object that contains the logic that will be run.
+     * @param arrays - the long array/s that will have the logic run across each element.
+     * @param <R>    - the return type of the LongLambda.lambda method.
+     * @return - true if a non null or true value is returned from an evaluation of the lambda method otherwise false.
+     */
+    public static <R> Boolean some(LongLambda<R> lambda, long[]... arrays) {
+        if (arrays == null || arrays.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.some - arrays cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.some - lambda cannot be null.");
+
+        R result = null;
+        long[] arguments = new long[arrays.length];
+        for (int i = 0, length = shortest(arrays); i < length; i++) {
+            result = lambda.lambda(assignValues(i, arrays, arguments));
+            if (null != result && !Boolean.FALSE.equals(result)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Return true if all evaluations of lambda return true or not null when run across the elements within the provided
+     * long array/s, without boxing the elements. The lambda method will be iteratively evaluated until it returns a
+     * null or false value. A single long array is reused to pass the argument/s to every evaluation of the lambda
+     * method so it must not be kept by the lambda.
+     *
+     * @param lambda - the LongLambda object that contains the logic that will be run.
+     * @param arrays - the long array/s that will have the logic run across each element.
+     * @param <R>    - the return type of the LongLambda.lambda method.
+     * @return - true if a non null or true value is returned from all evaluations of the lambda method otherwise false.
+     */
+    public static <R> Boolean every(LongLambda<R> lambda, long[]... arrays) {
+        if (arrays == null || arrays.length == 0) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.every - arrays cannot be null or empty.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.every - lambda cannot be null.");
+
+        R result = null;
+        long[] arguments = new long[arrays.length];
+        for (int i = 0, length = shortest(arrays); i < length; i++) {
+            result = lambda.lambda(assignValues(i, arrays, arguments));
+            if (null == result || Boolean.FALSE.equals(result)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Return the result of the combine lambda for every pair of left and right elements whose keys are equal. Null
+     * elements and elements with a null key never match.
+     * <p/>
+     * A hash table presized to the smaller collection is built from its keys and probed with the keys of the larger
+     * collection, so the join takes time in proportion to the sum of the collection sizes rather than their product.
+     * The results are in the order of the larger collection.
+     *
+     * @param leftKey  - the Lambda object that returns the join key of a left element.
+     * @param rightKey - the Lambda object that returns the join key of a right element.
+     * @param combine  - the Lambda object that is passed the left and right element of each match, in that order, and
+     *                 returns the joined result.
+     * @param left     - the left collection.
+     * @param right    - the right collection.
+     * @param <R>      - the return type of the combine Lambda.lambda method and the type contained with the returned
+     *                 list.
+     * @param <L>      - the type of the elements contained within the left collection.
+     * @param <T>      - the type of the elements contained within the right collection.
+     * @param <K>      - the type of the join keys.
+     * @return - a list containing the combined results of every match.
+     */
+    public static <R, L, T, K> List<R> join(Lambda<K, L> leftKey, Lambda<K, T> rightKey, Lambda<R, Object> combine,
+                                            Collection<L> left, Collection<T> right) {
+        return runJoin("join", leftKey, rightKey, combine, left, right, false, false);
+    }
+
+    /**
+     * Return the result of the combine lambda for every pair of left and right elements whose keys are equal, and for
+     * every left element that matches no right element with null passed as its right element. Elements with a null key
+     * never match.
+     *
+     * @param leftKey  - the Lambda object that returns the join key of a left element.
+     * @param rightKey - the Lambda object that returns the join key of a right element.
+     * @param combine  - the Lambda object that is passed the left and right element of each match, in that order, and
+     *                 returns the joined result.
+     * @param left     - the left collection.
+     * @param right    - the right collection.
+     * @param <R>      - the return type of the combine Lambda.lambda method and the type contained with the returned
+     *                 list.
+     * @param <L>      - the type of the elements contained within the left collection.
+     * @param <T>      - the type of the elements contained within the right collection.
+     * @param <K>      - the type of the join keys.
+     * @return - a list containing the combined results of every match and unmatched left element.
+     * @see #join(Lambda, Lambda, Lambda, Collection, Collection)
+     */
+    public static <R, L, T, K> List<R> leftOuterJoin(Lambda<K, L> leftKey, Lambda<K, T> rightKey,
+                                                     Lambda<R, Object> combine, Collection<L> left,
+                                                     Collection<T> right) {
+        return runJoin("leftOuterJoin", leftKey, rightKey, combine, left, right, true, false);
+    }
+
+    /**
+     * Return the result of the combine lambda for every pair of left and right elements whose keys are equal, working
+     * in parallel. Elements with a null key never match.
+     * <p/>
+     * The keys of both collections are computed in parallel and both collections are then partitioned by key hash so
+     * that each partition can be joined by a separate fork join worker. The results are grouped by partition so their
+     * order is not defined.
+     *
+     * @param leftKey  - the Lambda object that returns the join key of a left element.
+     * @param rightKey - the Lambda object that returns the join key of a right element.
+     * @param combine  - the Lambda object that is passed the left and right element of each match, in that order, and
+     *                 returns the joined result.
+     * @param left     - the left collection.
+     * @param right    - the right collection.
+     * @param <R>      - the return type of the combine Lambda.lambda method and the type contained with the returned
+     *                 list.
+     * @param <L>      - the type of the elements contained within the left collection.
+     * @param <T>      - the type of the elements contained within the right collection.
+     * @param <K>      - the type of the join keys.
+     * @return - a list containing the combined results of every match.
+     */
+    public static <R, L, T, K> List<R> parallelJoin(Lambda<K, L> leftKey, Lambda<K, T> rightKey,
+                                                    Lambda<R, Object> combine, Collection<L> left,
+                                                    Collection<T> right) {
+        return runJoin("parallelJoin", leftKey, rightKey, combine, left, right, false, true);
+    }
+
+    /**
+     * Return the result of the combine lambda for every pair of left and right elements whose keys are equal, and for
+     * every left element that matches no right element with null passed as its right element, working in parallel.
+     *
+     * @param leftKey  - the Lambda object that returns the join key of a left element.
+     * @param rightKey - the Lambda object that returns the join key of a right element.
+     * @param combine  - the Lambda object that is passed the left and right element of each match, in that order, and
+     *                 returns the joined result.
+     * @param left     - the left collection.
+     * @param right    - the right collection.
+     * @param <R>      - the return type of the combine Lambda.lambda method and the type contained with the returned
+     *                 list.
+     * @param <L>      - the type of the elements contained within the left collection.
+     * @param <T>      - the type of the elements contained within the right collection.
+     * @param <K>      - the type of the join keys.
+     * @return - a list containing the combined results of every match and unmatched left element.
+     * @see #parallelJoin(Lambda, Lambda, Lambda, Collection, Collection)
+     */
+    public static <R, L, T, K> List<R> parallelLeftOuterJoin(Lambda<K, L> leftKey, Lambda<K, T> rightKey,
+                                                             Lambda<R, Object> combine, Collection<L> left,
+                                                             Collection<T> right) {
+        return runJoin("parallelLeftOuterJoin", leftKey, rightKey, combine, left, right, true, true);
+    }
+
+    /**
+     * Create a new instantiation of any collection class type that is passed to the method.
+     * <p/>
+     * Handles all of the standard Java collection interfaces and any instantiable collection implementation.
+     * Cannot handle any collection interfaces outside of the Java api.
+     *
+     * @param returnType - the type of collection that is to be instantiated.
+     * @param <E>        - the type of class that is contained within the collection.
+     * @param <RC>       - the type of collection that is to be returned.
+     * @return - a new empty instantiation of the given collection type.
+     */
+    private static <E, RC extends Collection<E>> RC instantiateCollection(Class<RC> returnType) {
+        RC newCollection = null;
+
+        try {
+            // Boilerplate code to handle all the default Java collection interfaces. It would be nice if Java had a
+            // default implementation of collection that all the other classes used so it could be instantiated and then
+            // cast into the required subclass. Unfortunately AbstractCollection isn't quite enough for what I need.
+            if (returnType.isInterface()) {
+
+                if (BeanContext.class.isAssignableFrom(returnType)) {
+                    newCollection = (RC) new BeanContextSupport();
+                } else if (BeanContextServices.class.isAssignableFrom(returnType)) {
+                    newCollection = (RC) new BeanContextServicesSupport();
+                } else if (BlockingDeque.class.isAssignableFrom(returnType)) {
+                    newCollection = (RC) new LinkedBlockingDeque<E>();
+                } else if (BlockingQueue.class.isAssignableFrom(returnType)) {
+                    newCollection = (RC) new LinkedBlockingQueue<E>();
+                } else if (Deque.class.isAssignableFrom(returnType)) {
+                    newCollection = (RC) new ArrayDeque<E>();
+                } else if (List.class.isAssignableFrom(returnType)) {
+                    newCollection = (RC) new ArrayList<E>();
+                } else if (NavigableSet.class.isAssignableFrom(returnType)) {
+                    newCollection = (RC) new TreeSet<E>();
+                } else if (Queue.class.isAssignableFrom(returnType)) {
+                    newCollection = (RC) new PriorityQueue<E>();
+                } else if (Set.class.isAssignableFrom(returnType)) {
+                    newCollection = (RC) new HashSet<E>();
+                } else if (SortedSet.class.isAssignableFrom(returnType)) {
+                    newCollection = (RC) new TreeSet<E>();
+                } else if (Collection.class.isAssignableFrom(returnType)) {
+                    newCollection = (RC) new Vector();
+                }
+
+                if (newCollection == null) {
+                    throw new InstantiationException(
+                            "org.lambda.util.LambdaCollections.map - does not recognise the collection interface "
+                                    + returnType.getName());
+                }
+            } else {
+                newCollection = returnType.newInstance();
+            }
+        } catch (InstantiationException e) {
+            // TODO properly handle failed collection instantiation.
+            throw new RuntimeException("org.lambda.util.LambdaCollections.map - collection type could not be instantiated. "
+                    + e.getMessage());
+        } catch (IllegalAccessException e) {
+            // TODO properly handle illegal access exception.
+            throw new RuntimeException("org.lambda.util.LambdaCollections.map - collection type could not be accessed. "
+                    + e.getMessage());
+        }
+
+        return newCollection;
+    }
+
+    /**
+     * Run the given logic in the Lambda class over the provided collection/s.
+     * <p/>
+     * The return type for the Lambda class is set strictly to Object. This is because the return type in this method
+     * is irrelevant.
+     *
+     * @param lambda      - the Lambda object that contains the logic that will be run.
+     * @param collections - the collection/s that will have the logic run across each element.
+     * @param <E>         - the argument type of the Lambda.lambda method and the type contained with the provided
+     *                    collection/s.
+     */
+    private static <E> void runOverCollection(Lambda<Object, E> lambda, Collection<E>... collections) {
+        E[] arguments = null;
+        Iterator<E>[] iterators = getIterators(collections);
+        while (haveNext(iterators)) {
+            arguments = assignValues(iterators);
+
+            lambda.lambda(arguments);
+        }
+    }
+
+    /**
+     * Run the given logic in the Lambda class over the provided collection/s and place the processed elements into the
+     * provided return collection.
+     *
+     * @param mappedCollection - the collection that will have the lambda results added to it.
+     * @param lambda           - the Lambda object that contains the logic that will be run.
+     * @param collections      - the collection/s that will have the logic run across each element.
+     * @param <R>              - the return type of the Lambda.lambda method and the type contained with the returned
+     *                         collection.
+     * @param <E>              - the argument type of the Lambda.lambda method and the type contained with the provided
+     *                         collection/s.
+     */
+    private static <R, E> void runOverCollection(Collection<R> mappedCollection, Lambda<R, E> lambda,
+                                                 Collection<E>... collections) {
+        E[] arguments = null;
+        Iterator<E>[] iterators = getIterators(collections);
+        while (haveNext(iterators)) {
+            arguments = assignValues(iterators);
+
+            mappedCollection.add(lambda.lambda(arguments));
+        }
+    }
+
+    /**
+     * Search the first size elements of the provided list/s in parallel for the first element/s that the lambda returns
+     * true or not null for.
+     *
+     * @param lambda - the Lambda object that contains the logic that will be run.
+     * @param lists  - the random access list/s that will be searched.
+     * @param size   - the number of elements to search.
+     * @param <R>    - the return type of the Lambda.lambda method.
+     * @param <E>    - the argument type of the Lambda.lambda method and the type contained with the provided list/s.
+     * @return - the position of the first match or -1 if there is none.
+     */
+    private static <R, E> int runFindInParallel(Lambda<R, E> lambda, List<E>[] lists, int size) {
+        FindTask<R, E> task = new FindTask<R, E>(lambda, lists, size);
+        task.invoke();
+
+        int best = task.best.get();
+        return best == Integer.MAX_VALUE ? -1 : best;
+    }
+
+    /**
+     * Run the given logic in the Lambda class over the provided collection/s, sampling the cost of the first elements
+     * to decide whether to map the rest sequentially or in parallel, and place the processed elements into the provided
+     * return collection in order.
+     *
+     * @param mappedCollection - the collection that will have the lambda results added to it.
+     * @param lambda           - the Lambda object that contains the logic that will be run.
+     * @param collections      - the collection/s that will have the logic run across each element.
+     * @param <R>              - the return type of the Lambda.lambda method and the type contained with the returned
+     *                         collection.
+     * @param <E>              - the argument type of the Lambda.lambda method and the type contained with the provided
+     *                         collection/s.
+     */
+    private static <R, E> void runOverCollectionAdaptively(Collection<R> mappedCollection, Lambda<R, E> lambda,
+                                                           Collection<E>... collections) {
+        List<E>[] lists = toRandomAccess(collections);
+        int size = shortest(lists);
+        Object[] results = new Object[size];
+
+        int sampled = 0;
+        long start = System.nanoTime();
+        long elapsed = 0;
+        while (sampled < size && sampled < MAX_SAMPLE && elapsed < MIN_SAMPLE_NANOS) {
+            results[sampled] = lambda.lambda(assignValues(sampled, lists));
+            sampled++;
+            elapsed = System.nanoTime() - start;
+        }
+
+        double nanosPerElement = sampled == 0 ? 0 : (double) elapsed / sampled;
+        int remaining = size - sampled;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        boolean parallel = parallelism > 1 && remaining * nanosPerElement >= PARALLEL_THRESHOLD_NANOS;
+        int chunkSize = 0;
+
+        if (parallel) {
+            long byCost = (long) (TARGET_CHUNK_NANOS / Math.max(nanosPerElement, 1));
+            long byBalance = (remaining + parallelism * 4L - 1) / (parallelism * 4L);
+            chunkSize = (int) Math.max(1, Math.min(byCost, byBalance));
+
+            ForkJoinPool.commonPool().invoke(new MapTask<R, E>(lambda, lists, results, sampled, size, chunkSize));
+        } else {
+            for (int i = sampled; i < size; i++) {
+                results[i] = lambda.lambda(assignValues(i, lists));
+            }
+        }
+
+        ADAPTIVE_STATS.record(new AdaptiveSchedule(size, sampled, nanosPerElement, parallel, chunkSize));
+
+        for (Object result : results) {
+            mappedCollection.add((R) result);
+        }
+    }
+
+    /**
+     * Run the given logic in the Lambda class over the provided collection/s and place the processed elements into the
+     * provided return collection until the deadline passes.
+     *
+     * @param deadline         - the time, as given by System.nanoTime(), after which no more elements will be
+     *                         processed.
+     * @param mappedCollection - the collection that will have the lambda results added to it.
+     * @param lambda           - the Lambda object that contains the logic that will be run.
+     * @param collections      - the collection/s that will have the logic run across each element.
+     * @param <R>              - the return type of the Lambda.lambda method and the type contained with the returned
+     *                         collection.
+     * @param <E>              - the argument type of the Lambda.lambda method and the type contained with the provided
+     *                         collection/s.
+     * @return - true if every element was processed otherwise false.
+     */
+    private static <R, E> Boolean runOverCollectionUntil(long deadline, Collection<R> mappedCollection,
+                                                         Lambda<R, E> lambda, Collection<E>... collections) {
+        E[] arguments = null;
+        Iterator<E>[] iterators = getIterators(collections);
+        for (int i = 0; haveNext(iterators); i++) {
+            if ((i & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() - deadline >= 0) return false;
+
+            arguments = assignValues(iterators);
+
+            mappedCollection.add(lambda.lambda(arguments));
+        }
+
+        return true;
+    }
+
+    /**
+     * Run the given logic in the Lambda class over the first size elements of the provided list/s in parallel until
+     * the deadline passes and return the results of the longest processed prefix.
+     *
+     * @param deadline - the time, as given by System.nanoTime(), after which no more elements will be processed.
+     * @param lambda   - the Lambda object that contains the logic that will be run.
+     * @param lists    - the random access list/s that will have the logic run across each element.
+     * @param size     - the number of elements to process.
+     * @param <R>      - the return type of the Lambda.lambda method.
+     * @param <E>      - the argument type of the Lambda.lambda method and the type contained with the provided list/s.
+     * @return - the results of the processed prefix along with whether every element was processed.
+     */
+    private static <R, E> PartialResult<R> runOverListsInParallelUntil(long deadline, Lambda<R, E> lambda,
+                                                                        List<E>[] lists, int size) {
+        DeadlineTask<R, E> task = new DeadlineTask<R, E>(deadline, lambda, lists, size);
+        task.invoke();
+
+        int prefix = 0;
+        for (int i = 0; i < task.processed.length; i++) {
+            prefix += task.processed[i];
+            if (task.processed[i] < Math.min(task.chunk, size - i * task.chunk)) break;
+        }
+
+        List<R> mappedList = new ArrayList<R>(prefix);
+        for (int i = 0; i < prefix; i++) {
+            mappedList.add((R) task.results[i]);
+        }
+
+        return new PartialResult<R>(mappedList, prefix == size);
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided collection/s that contain collections with objects of
+     * type &lt;E&gt; and collapse the processed elements into a single dimension collection.
+     *
+     * @param mappedCollection - the single dimension collection that will have the lambda results added to it.
+     * @param lambda           - the Lambda object that contains the logic that will be run.
+     * @param collections      - the 2 dimensional collection/s that will have the logic run across each element.
+     * @param <R>              - the return type of the Lambda.lambda method and the type contained with the provided
+     *                         single dimension collection.
+     * @param <E>              - the argument type of the Lambda.lambda method and the type of the collection/s
+     *                         contained within the given collection.
+     */
+    private static <R, E> void runOverDeepCollection(Collection<R> mappedCollection, Lambda<R, E> lambda,
+                                                     Collection<Collection<E>>... collections) {
+        Collection<E>[] arguments = null;
+        Iterator<Collection<E>>[] iterators = getIterators(collections);
+        while (haveNext(iterators)) {
+            arguments = assignValues(iterators);
+
+            runOverCollection(mappedCollection, lambda, arguments);
+        }
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided collection/s that contain collections with objects of
+     * type &lt;E&gt; in parallel and collapse the processed elements into a single dimension collection.
+     * <p/>
+     * Every zipped group of inner collections becomes a segment of the flattened element range. The range is then
+     * split by element count so each fork join task gets a similar amount of work whatever the segment sizes are.
+     *
+     * @param mappedCollection - the single dimension collection that will have the lambda results added to it.
+     * @param lambda           - the Lambda object that contains the logic that will be run.
+     * @param collections      - the 2 dimensional collection/s that will have the logic run across each element.
+     * @param <R>              - the return type of the Lambda.lambda method and the type contained with the provided
+     *                         single dimension collection.
+     * @param <E>              - the argument type of the Lambda.lambda method and the type of the collection/s
+     *                         contained within the given collection.
+     */
+    private static <R, E> void runOverDeepCollectionInParallel(Collection<R> mappedCollection, Lambda<R, E> lambda,
+                                                               Collection<Collection<E>>... collections) {
+        List<List<E>[]> segments = new ArrayList<List<E>[]>();
+        List<Integer> offsets = new ArrayList<Integer>();
+        long total = 0;
+
+        Collection<E>[] arguments = null;
+        Iterator<Collection<E>>[] iterators = getIterators(collections);
+        while (haveNext(iterators)) {
+            arguments = assignValues(iterators);
+
+            List<E>[] segment = (List<E>[]) new List[arguments.length];
+            int size = Integer.MAX_VALUE;
+            for (int i = 0; i < arguments.length; i++) {
+                segment[i] = toRandomAccess(arguments[i]);
+                size = Math.min(size, segment[i].size());
+            }
+
+            if (size > 0) {
+                segments.add(segment);
+                offsets.add((int) total);
+                total += size;
+            }
+        }
+
+        if (total > Integer.MAX_VALUE) throw new IllegalArgumentException(
+                "org.lambda.util.LambdaCollections.parallelMapCan - too many elements to map in parallel " + total);
+
+        int[] starts = new int[offsets.size() + 1];
+        for (int i = 0; i < offsets.size(); i++) {
+            starts[i] = offsets.get(i);
+        }
+        starts[offsets.size()] = (int) total;
+
+        Object[] results = new Object[(int) total];
+        ForkJoinPool.commonPool().invoke(new DeepMapTask<R, E>(lambda, segments, starts, results, 0, (int) total,
+                RangeTask.threshold((int) total)));
+
+        for (Object result : results) {
+            mappedCollection.add((R) result);
+        }
+    }
+
+    /**
+     * Run the logic within the lambda method across the provided list/s that contain objects of type &lt;E&gt;.
+     * The argument for the Lambda.lambda method when used with this method is a list/s containing the rest of the
+     * elements that are yet to be processed e,g. the current element that is to be process along with the remaining
      * tail of the list/s. The results of the lambda method will be added to the provided mapped list.
      *
-     * @param mappedList - the lists that will have the the lambda results added to it.
-     * @param lambda     - the Lambda object that contains the logic that will be run.
-     * @param lists      - the list/s that will have the logic run across each element.
-     * @param <R>        - the return type of the Lambda.lambda method and the type contained with the mapped list.
-     * @param <E>        - the argument type of the Lambda.lambda method and the type contained with the provided list/s.
-     * @param <L>        - The type of the list that will be passed into the lambda method as it's argument. This must be
-     *                   the same as the list/s that was passed in to be processed.
+     * @param mappedList - the lists that will have the the lambda results added to it.
+     * @param lambda     - the Lambda object that contains the logic that will be run.
+     * @param lists      - the list/s that will have the logic run across each element.
+     * @param <R>        - the return type of the Lambda.lambda method and the type contained with the mapped list.
+     * @param <E>        - the argument type of the Lambda.lambda method and the type contained with the provided list/s.
+     * @param <L>        - The type of the list that will be passed into the lambda method as it's argument. This must be
+     *                   the same as the list/s that was passed in to be processed.
+     */
+    private static <R, E, L extends List<E>> void runOverList(List<R> mappedList, Lambda<R, L> lambda,
+                                                              L... lists) {
+        L[] tails = null;
+        for (int i = 0; i < lists[0].size(); i++) {
+            tails = getTails(i, lists);
+
+            if (null == tails) break;
+            else mappedList.add(lambda.lambda(tails));
+        }
+    }
+
+    /**
+     * Check the join arguments, compute the keys of both collections, partition them if the join is parallel and join
+     * each partition.
+     *
+     * @param method   - the name of the public method used in error messages.
+     * @param leftKey  - the Lambda object that returns the join key of a left element.
+     * @param rightKey - the Lambda object that returns the join key of a right element.
+     * @param combine  - the Lambda object that returns the joined result of a left and right element.
+     * @param left     - the left collection.
+     * @param right    - the right collection.
+     * @param outer    - true if unmatched left elements should be combined with null.
+     * @param parallel - true if the keys and partitions should be computed by fork join workers.
+     * @return - a list containing the combined results.
+     */
+    private static <R, L, T, K> List<R> runJoin(String method, Lambda<K, L> leftKey, Lambda<K, T> rightKey,
+                                                Lambda<R, Object> combine, Collection<L> left, Collection<T> right,
+                                                boolean outer, boolean parallel) {
+        if (leftKey == null || rightKey == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections." + method + " - key lambdas cannot be null.");
+        if (combine == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections." + method + " - combine cannot be null.");
+        if (left == null || right == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections." + method + " - collections cannot be null.");
+
+        List<L> leftList = toRandomAccess(left);
+        List<T> rightList = toRandomAccess(right);
+        Object[] leftKeys = new Object[leftList.size()];
+        Object[] rightKeys = new Object[rightList.size()];
+
+        if (!parallel) {
+            runOverKeys(leftKey, leftList, leftKeys, 0, leftKeys.length);
+            runOverKeys(rightKey, rightList, rightKeys, 0, rightKeys.length);
+
+            return joinPartition(leftList, leftKeys, identity(leftKeys.length), rightList, rightKeys,
+                    identity(rightKeys.length), combine, outer);
+        }
+
+        ForkJoinPool.commonPool().invoke(new KeyTask<K, L>(leftKey, leftList, leftKeys, 0, leftKeys.length,
+                RangeTask.threshold(leftKeys.length)));
+        ForkJoinPool.commonPool().invoke(new KeyTask<K, T>(rightKey, rightList, rightKeys, 0, rightKeys.length,
+                RangeTask.threshold(rightKeys.length)));
+
+        int partitions = ForkJoinPool.getCommonPoolParallelism() * 4;
+        int[][] leftPartitions = partition(leftKeys, partitions);
+        int[][] rightPartitions = partition(rightKeys, partitions);
+        List<R>[] results = (List<R>[]) new List[partitions];
+
+        ForkJoinPool.commonPool().invoke(new JoinTask<R, L, T>(leftList, leftKeys, leftPartitions, rightList,
+                rightKeys, rightPartitions, combine, outer, results, 0, partitions));
+
+        int size = 0;
+        for (List<R> partition : results) {
+            size += partition.size();
+        }
+        List<R> joined = new ArrayList<R>(size);
+        for (List<R> partition : results) {
+            joined.addAll(partition);
+        }
+
+        return joined;
+    }
+
+    /**
+     * Place the key of each element in the given range of the list into the matching index of the keys array. Null
+     * elements are given a null key without running the lambda.
+     */
+    private static <K, E> void runOverKeys(Lambda<K, E> key, List<E> list, Object[] keys, int from, int to) {
+        E element = null;
+        for (int i = from; i < to; i++) {
+            element = list.get(i);
+
+            keys[i] = element == null ? null : key.lambda(assignValue(element));
+        }
+    }
+
+    /**
+     * Join the left and right elements at the given indexes. A hash table is built over the keys of the smaller side
+     * with every element chained to the next element with the same key so no per key list is needed. The larger side
+     * then probes the table.
+     *
+     * @param left         - the left elements.
+     * @param leftKeys     - the keys of the left elements.
+     * @param leftIndexes  - the indexes of the left elements to join.
+     * @param right        - the right elements.
+     * @param rightKeys    - the keys of the right elements.
+     * @param rightIndexes - the indexes of the right elements to join.
+     * @param combine      - the Lambda object that returns the joined result of a left and right element.
+     * @param outer        - true if unmatched left elements should be combined with null.
+     * @return - a list containing the combined results.
      */
-    private static <R, E, L extends List<E>> void runOverList(List<R> mappedList, Lambda<R, L> lambda,
-                                                              L... lists) {
-        L[] tails = null;
-        for (int i = 0; i < lists[0].size(); i++) {
-            tails = getTails(i, lists);
+    private static <R, L, T> List<R> joinPartition(List<L> left, Object[] leftKeys, int[] leftIndexes,
+                                                   List<T> right, Object[] rightKeys, int[] rightIndexes,
+                                                   Lambda<R, Object> combine, boolean outer) {
+        boolean buildLeft = leftIndexes.length < rightIndexes.length;
+        int[] build = buildLeft ? leftIndexes : rightIndexes;
+        Object[] buildKeys = buildLeft ? leftKeys : rightKeys;
+        int[] probe = buildLeft ? rightIndexes : leftIndexes;
+        Object[] probeKeys = buildLeft ? rightKeys : leftKeys;
 
-            if (null == tails) break;
-            else mappedList.add(lambda.lambda(tails));
+        // Built backwards so that each chain lists the elements with the same key in their original order.
+        Map<Object, Integer> table = new HashMap<Object, Integer>((int) (build.length / 0.75f) + 1);
+        int[] next = new int[build.length];
+        for (int b = build.length - 1; b >= 0; b--) {
+            Object key = buildKeys[build[b]];
+            Integer head = key == null ? null : table.put(key, b);
+            next[b] = head == null ? -1 : head;
+        }
+
+        List<R> results = new ArrayList<R>(probe.length);
+        boolean[] matched = outer && buildLeft ? new boolean[build.length] : null;
+        for (int p : probe) {
+            Object key = probeKeys[p];
+            Integer head = key == null ? null : table.get(key);
+
+            if (head == null) {
+                if (outer && !buildLeft) results.add(combine.lambda(left.get(p), null));
+                continue;
+            }
+
+            for (int b = head; b != -1; b = next[b]) {
+                if (buildLeft) {
+                    if (matched != null) matched[b] = true;
+                    results.add(combine.lambda(left.get(build[b]), right.get(p)));
+                } else {
+                    results.add(combine.lambda(left.get(p), right.get(build[b])));
+                }
+            }
+        }
+
+        if (matched != null) {
+            for (int b = 0; b < build.length; b++) {
+                if (!matched[b]) results.add(combine.lambda(left.get(build[b]), null));
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Return the indexes of the given keys grouped into partitions by key hash. Null keys are placed in the first
+     * partition.
+     * <p/>
+     * The partition is taken from the high bits of a multiplicative mix of the hash. HashMap picks its bucket from the
+     * low bits of the hash, so if the partition came from those too every key in a partition would share them and
+     * each partition's table would only ever use a fraction of its buckets.
+     */
+    private static int[][] partition(Object[] keys, int partitions) {
+        int[] owners = new int[keys.length];
+        int[] counts = new int[partitions];
+        for (int i = 0; i < keys.length; i++) {
+            int hash = keys[i] == null ? 0 : keys[i].hashCode() * 0x9E3779B9;
+            owners[i] = (int) (((hash & 0xFFFFFFFFL) * partitions) >>> 32);
+            counts[owners[i]]++;
+        }
+
+        int[][] indexes = new int[partitions][];
+        for (int p = 0; p < partitions; p++) {
+            indexes[p] = new int[counts[p]];
+            counts[p] = 0;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            indexes[owners[i]][counts[owners[i]]++] = i;
+        }
+
+        return indexes;
+    }
+
+    private static int[] identity(int size) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
         }
+
+        return indexes;
     }
 
     /**
@@ -476,14 +1989,123 @@ public class LambdaCollections {
         return tails;
     }
 
+    /**
+     * Return the provided collection if it is already a random access list otherwise a new list containing the same
+     * elements in iteration order.
+     *
+     * @param collection - the collection that needs to be accessed by index.
+     * @param <E>        - the type of the elements within the collection.
+     * @return - a random access list of the collection elements.
+     */
+    static <E> List<E> toRandomAccess(Collection<E> collection) {
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            return (List<E>) collection;
+        }
+
+        return new ArrayList<E>(collection);
+    }
+
+    /**
+     * Add the result to the given collection. If the collection is a BlockingQueue the result is put into it so that
+     * the map waits for space rather than failing when the queue is bounded and full.
+     *
+     * @param mappedCollection - the collection that will have the result added to it.
+     * @param result           - the result to add.
+     * @param <R>              - the type of the result.
+     */
+    private static <R> void addResult(Collection<R> mappedCollection, R result) {
+        if (!(mappedCollection instanceof BlockingQueue)) {
+            mappedCollection.add(result);
+            return;
+        }
+
+        try {
+            ((BlockingQueue<R>) mappedCollection).put(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("org.lambda.util.LambdaCollections.map - interrupted while waiting for space "
+                    + "in the return queue. " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Return an array of random access lists containing the elements of the provided collection/s.
+     *
+     * @param collections - the collection/s that need to be accessed by index.
+     * @param <E>         - the type of the elements within the collection/s.
+     * @return - an array of random access lists.
+     * @see #toRandomAccess(Collection)
+     */
+    static <E> List<E>[] toRandomAccess(Collection<E>[] collections) {
+        List<E>[] lists = (List<E>[]) new List[collections.length];
+
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = toRandomAccess(collections[i]);
+        }
+
+        return lists;
+    }
+
+    /**
+     * Return the size of the shortest of the provided collection/s which is the number of elements in their zip.
+     *
+     * @param collections - the collection/s to measure.
+     * @return - the size of the shortest collection.
+     */
+    static int shortest(Collection<?>[] collections) {
+        int size = Integer.MAX_VALUE;
+
+        for (Collection<?> collection : collections) {
+            size = Math.min(size, collection.size());
+        }
+
+        return collections.length == 0 ? 0 : size;
+    }
+
+    /**
+     * Return the length of the shortest of the provided array/s.
+     *
+     * @param arrays - the array/s to measure.
+     * @return - the length of the shortest array.
+     */
+    private static int shortest(Object[][] arrays) {
+        int length = Integer.MAX_VALUE;
+
+        for (Object[] array : arrays) {
+            length = Math.min(length, array.length);
+        }
+
+        return length;
+    }
+
+    private static int shortest(int[][] arrays) {
+        int length = Integer.MAX_VALUE;
+
+        for (int[] array : arrays) {
+            length = Math.min(length, array.length);
+        }
+
+        return length;
+    }
+
+    private static int shortest(long[][] arrays) {
+        int length = Integer.MAX_VALUE;
+
+        for (long[] array : arrays) {
+            length = Math.min(length, array.length);
+        }
+
+        return length;
+    }
+
     /**
      * Return an array containing the iterator/s of the provided collection/s.
      *
-     * @param collections - the collection/s that will have it's iterator extracted.
+     * @param collections - the collection/s or iterable/s that will have it's iterator extracted.
      * @param <E>         - the type of the elements within the collection and iterator.
      * @return - an array of iterators.
      */
-    private static <E> Iterator<E>[] getIterators(Collection<E>... collections) {
+    static <E> Iterator<E>[] getIterators(Iterable<E>... collections) {
         Iterator<E>[] iterators = (Iterator<E>[]) new Iterator[collections.length];
 
         for (int i = 0; i < iterators.length; i++) {
@@ -499,7 +2121,7 @@ public class LambdaCollections {
      * @param iterators - the iterator/s to check.
      * @return - true if the given iterator/s has a next element otherwise false.
      */
-    private static Boolean haveNext(Iterator... iterators) {
+    static Boolean haveNext(Iterator... iterators) {
         for (Iterator itr : iterators) {
             if (!itr.hasNext()) return false;
         }
@@ -514,7 +2136,7 @@ public class LambdaCollections {
      * @param <E>       - the type of the elements contained with the iterator/s and returned array.
      * @return - an array of the element/s taken from the provided iterator/s.
      */
-    private static <E> E[] assignValues(Iterator<E>[] iterators) {
+    static <E> E[] assignValues(Iterator<E>[] iterators) {
         if (iterators == null) throw new NullPointerException(
                 "org.lambda.util.LambdaCollections.assignValues - iterators must not be null.");
 
@@ -532,4 +2154,414 @@ public class LambdaCollections {
 
         return values;
     }
+
+    /**
+     * Return an array of the element/s found at the given index within the provided array/s. The returned array has the
+     * component type of the first provided array.
+     *
+     * @param index  - the index of the element/s to extract.
+     * @param arrays - the array/s to have it's element at the given index extracted.
+     * @param <E>    - the component type of the provided array/s and returned array.
+     * @return - an array of the element/s taken from the provided array/s.
+     */
+    private static <E> E[] assignValues(int index, E[][] arrays) {
+        E[] values = (E[]) Array.newInstance(arrays[0].getClass().getComponentType(), arrays.length);
+
+        for (int i = 0; i < arrays.length; i++) {
+            values[i] = arrays[i][index];
+        }
+
+        return values;
+    }
+
+    /**
+     * Copy the element/s found at the given index within the provided int array/s into the given arguments array.
+     *
+     * @param index     - the index of the element/s to extract.
+     * @param arrays    - the array/s to have it's element at the given index extracted.
+     * @param arguments - the array the element/s are copied into.
+     * @return - the arguments array.
+     */
+    private static int[] assignValues(int index, int[][] arrays, int[] arguments) {
+        for (int i = 0; i < arrays.length; i++) {
+            arguments[i] = arrays[i][index];
+        }
+
+        return arguments;
+    }
+
+    /**
+     * Copy the element/s found at the given index within the provided long array/s into the given arguments array.
+     *
+     * @param index     - the index of the element/s to extract.
+     * @param arrays    - the array/s to have it's element at the given index extracted.
+     * @param arguments - the array the element/s are copied into.
+     * @return - the arguments array.
+     */
+    private static long[] assignValues(int index, long[][] arrays, long[] arguments) {
+        for (int i = 0; i < arrays.length; i++) {
+            arguments[i] = arrays[i][index];
+        }
+
+        return arguments;
+    }
+
+    /**
+     * Return a single element array containing the given value. The array is typed to the class of the value so it can
+     * be passed to a Lambda.lambda method that has been implemented with a concrete argument type.
+     *
+     * @param value - the value to place in the array.
+     * @param <E>   - the type of the value and returned array.
+     * @return - an array containing only the given value.
+     */
+    static <E> E[] assignValue(E value) {
+        E[] values = (E[]) Array.newInstance(value == null ? Object.class : value.getClass(), 1);
+        values[0] = value;
+
+        return values;
+    }
+
+    /**
+     * Return an array of the element/s found at the given index within the provided list/s.
+     *
+     * @param index - the index of the element/s to extract.
+     * @param lists - the list/s to have it's element at the given index extracted.
+     * @param <E>   - the type of the elements contained with the list/s and returned array.
+     * @return - an array of the element/s taken from the provided list/s.
+     */
+    static <E> E[] assignValues(int index, List<E>[] lists) {
+        if (lists == null) throw new NullPointerException(
+                "org.lambda.util.LambdaCollections.assignValues - lists must not be null.");
+
+        E value = null;
+        E[] values = null;
+        for (int i = 0; i < lists.length; i++) {
+            value = lists[i].get(index);
+
+            if (values == null) {
+                values = (E[]) Array.newInstance(value.getClass(), lists.length);
+            }
+
+            values[i] = value;
+        }
+
+        return values;
+    }
+
+    /**
+     * Maps a range of the flattened elements of a deep collection into the matching range of the results array.
+     *
+     * @param <R> - the return type of the Lambda.lambda method.
+     * @param <E> - the argument type of the Lambda.lambda method.
+     */
+    private static class DeepMapTask<R, E> extends RangeTask {
+
+        private final Lambda<R, E> lambda;
+        private final List<List<E>[]> segments;
+        private final int[] starts;
+        private final Object[] results;
+
+        private DeepMapTask(Lambda<R, E> lambda, List<List<E>[]> segments, int[] starts, Object[] results,
+                            int from, int to, int threshold) {
+            super(from, to, threshold);
+            this.lambda = lambda;
+            this.segments = segments;
+            this.starts = starts;
+            this.results = results;
+        }
+
+        @Override
+        protected void run(int from, int to) {
+            int segment = Arrays.binarySearch(starts, from);
+            if (segment < 0) segment = -segment - 2;
+
+            int i = from;
+            while (i < to) {
+                int end = Math.min(to, starts[segment + 1]);
+                List<E>[] lists = segments.get(segment);
+                for (int offset = starts[segment]; i < end; i++) {
+                    results[i] = lambda.lambda(assignValues(i - offset, lists));
+                }
+                segment++;
+            }
+        }
+
+        @Override
+        protected RangeTask subtask(int from, int to) {
+            return new DeepMapTask<R, E>(lambda, segments, starts, results, from, to, threshold);
+        }
+    }
+
+    /**
+     * Computes the join keys of a range of elements.
+     */
+    private static class KeyTask<K, E> extends RangeTask {
+
+        private final Lambda<K, E> key;
+        private final List<E> list;
+        private final Object[] keys;
+
+        private KeyTask(Lambda<K, E> key, List<E> list, Object[] keys, int from, int to, int threshold) {
+            super(from, to, threshold);
+            this.key = key;
+            this.list = list;
+            this.keys = keys;
+        }
+
+        @Override
+        protected void run(int from, int to) {
+            runOverKeys(key, list, keys, from, to);
+        }
+
+        @Override
+        protected RangeTask subtask(int from, int to) {
+            return new KeyTask<K, E>(key, list, keys, from, to, threshold);
+        }
+    }
+
+    /**
+     * Joins a range of partitions, one partition at a time.
+     */
+    private static class JoinTask<R, L, T> extends RangeTask {
+
+        private final List<L> left;
+        private final Object[] leftKeys;
+        private final int[][] leftPartitions;
+        private final List<T> right;
+        private final Object[] rightKeys;
+        private final int[][] rightPartitions;
+        private final Lambda<R, Object> combine;
+        private final boolean outer;
+        private final List<R>[] results;
+
+        private JoinTask(List<L> left, Object[] leftKeys, int[][] leftPartitions, List<T> right, Object[] rightKeys,
+                         int[][] rightPartitions, Lambda<R, Object> combine, boolean outer, List<R>[] results,
+                         int from, int to) {
+            super(from, to, 1);
+            this.left = left;
+            this.leftKeys = leftKeys;
+            this.leftPartitions = leftPartitions;
+            this.right = right;
+            this.rightKeys = rightKeys;
+            this.rightPartitions = rightPartitions;
+            this.combine = combine;
+            this.outer = outer;
+            this.results = results;
+        }
+
+        @Override
+        protected void run(int from, int to) {
+            for (int p = from; p < to; p++) {
+                results[p] = joinPartition(left, leftKeys, leftPartitions[p], right, rightKeys, rightPartitions[p],
+                        combine, outer);
+            }
+        }
+
+        @Override
+        protected RangeTask subtask(int from, int to) {
+            return new JoinTask<R, L, T>(left, leftKeys, leftPartitions, right, rightKeys, rightPartitions, combine,
+                    outer, results, from, to);
+        }
+    }
+
+    /**
+     * Runs a lambda for its side effects over a range of the zipped elements of the provided lists.
+     */
+    private static class SideEffectTask<E> extends RangeTask {
+
+        private final Lambda<Object, E> lambda;
+        private final List<E>[] lists;
+
+        private SideEffectTask(Lambda<Object, E> lambda, List<E>[] lists, int from, int to, int threshold) {
+            super(from, to, threshold);
+            this.lambda = lambda;
+            this.lists = lists;
+        }
+
+        @Override
+        protected void run(int from, int to) {
+            for (int i = from; i < to; i++) {
+                lambda.lambda(assignValues(i, lists));
+            }
+        }
+
+        @Override
+        protected RangeTask subtask(int from, int to) {
+            return new SideEffectTask<E>(lambda, lists, from, to, threshold);
+        }
+    }
+
+    /**
+     * Maps a range of the zipped elements of the provided lists into the matching range of the results array.
+     */
+    private static class MapTask<R, E> extends RangeTask {
+
+        private final Lambda<R, E> lambda;
+        private final List<E>[] lists;
+        private final Object[] results;
+
+        private MapTask(Lambda<R, E> lambda, List<E>[] lists, Object[] results, int from, int to, int threshold) {
+            super(from, to, threshold);
+            this.lambda = lambda;
+            this.lists = lists;
+            this.results = results;
+        }
+
+        @Override
+        protected void run(int from, int to) {
+            for (int i = from; i < to; i++) {
+                results[i] = lambda.lambda(assignValues(i, lists));
+            }
+        }
+
+        @Override
+        protected RangeTask subtask(int from, int to) {
+            return new MapTask<R, E>(lambda, lists, results, from, to, threshold);
+        }
+    }
+
+    /**
+     * Maps claimed chunks of the provided lists until there are none left or the deadline has passed. The number of
+     * elements finished in each chunk is recorded so the processed prefix can be found.
+     *
+     * @param <R> - the return type of the Lambda.lambda method.
+     * @param <E> - the argument type of the Lambda.lambda method.
+     */
+    private static class DeadlineTask<R, E> extends ClaimingTask {
+
+        private final long deadline;
+        private final Lambda<R, E> lambda;
+        private final List<E>[] lists;
+        private final Object[] results;
+        private final int[] processed;
+        private final AtomicBoolean stopped = new AtomicBoolean();
+
+        private DeadlineTask(long deadline, Lambda<R, E> lambda, List<E>[] lists, int size) {
+            super(size);
+            this.deadline = deadline;
+            this.lambda = lambda;
+            this.lists = lists;
+            this.results = new Object[size];
+            this.processed = new int[chunks()];
+        }
+
+        @Override
+        protected boolean claimable(int start) {
+            return !stopped.get();
+        }
+
+        @Override
+        protected void runChunk(int worker, int chunk, int start, int end) {
+            int i = start;
+            for (; i < end; i++) {
+                if (((i - start) & DEADLINE_CHECK_MASK) == 0 && (stopped.get() || System.nanoTime() - deadline >= 0)) {
+                    stopped.set(true);
+                    break;
+                }
+
+                results[i] = lambda.lambda(assignValues(i, lists));
+            }
+            processed[chunk] = i - start;
+        }
+    }
+
+    /**
+     * Searches claimed chunks of the provided lists for a match, lowering the best index found so far. No element
+     * after the best index is ever evaluated, so chunks are only searched while they may hold an earlier match.
+     *
+     * @param <R> - the return type of the Lambda.lambda method.
+     * @param <E> - the argument type of the Lambda.lambda method.
+     */
+    private static class FindTask<R, E> extends ClaimingTask {
+
+        private final Lambda<R, E> lambda;
+        private final List<E>[] lists;
+        private final AtomicInteger best = new AtomicInteger(Integer.MAX_VALUE);
+
+        private FindTask(Lambda<R, E> lambda, List<E>[] lists, int size) {
+            super(size);
+            this.lambda = lambda;
+            this.lists = lists;
+        }
+
+        @Override
+        protected boolean claimable(int start) {
+            return start < best.get();
+        }
+
+        @Override
+        protected void runChunk(int worker, int chunk, int start, int end) {
+            R result = null;
+            for (int i = start; i < end && i < best.get(); i++) {
+                result = lambda.lambda(assignValues(i, lists));
+                if (null != result && !Boolean.FALSE.equals(result)) {
+                    int current;
+                    while (i < (current = best.get()) && !best.compareAndSet(current, i)) {
+                        // Another worker lowered the best index at the same time, try again against its value.
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the lambda results of claimed chunks of the provided lists to a set owned by the worker, so that no two
+     * threads ever add to the same set.
+     *
+     * @param <R> - the return type of the Lambda.lambda method.
+     * @param <E> - the argument type of the Lambda.lambda method.
+     */
+    private static class DistinctTask<R, E> extends ClaimingTask {
+
+        private final Lambda<R, E> lambda;
+        private final List<E>[] lists;
+        private final OpenHashSet<R>[] sets;
+
+        private DistinctTask(Lambda<R, E> lambda, List<E>[] lists, int size) {
+            super(size);
+            this.lambda = lambda;
+            this.lists = lists;
+            this.sets = (OpenHashSet<R>[]) new OpenHashSet[workers()];
+        }
+
+        @Override
+        protected void runChunk(int worker, int chunk, int start, int end) {
+            if (sets[worker] == null) sets[worker] = new OpenHashSet<R>();
+
+            OpenHashSet<R> set = sets[worker];
+            for (int i = start; i < end; i++) {
+                set.add(lambda.lambda(assignValues(i, lists)));
+            }
+        }
+    }
+
+    /**
+     * The primitive long version of {@link DistinctTask}.
+     *
+     * @param <E> - the argument type of the ToLongLambda.lambda method.
+     */
+    private static class LongDistinctTask<E> extends ClaimingTask {
+
+        private final ToLongLambda<E> lambda;
+        private final List<E>[] lists;
+        private final LongOpenHashSet[] sets;
+
+        private LongDistinctTask(ToLongLambda<E> lambda, List<E>[] lists, int size) {
+            super(size);
+            this.lambda = lambda;
+            this.lists = lists;
+            this.sets = new LongOpenHashSet[workers()];
+        }
+
+        @Override
+        protected void runChunk(int worker, int chunk, int start, int end) {
+            if (sets[worker] == null) sets[worker] = new LongOpenHashSet();
+
+            LongOpenHashSet set = sets[worker];
+            for (int i = start; i < end; i++) {
+                set.add(lambda.lambda(LambdaCollections.<E>assignValues(i, lists)));
+            }
+        }
+    }
 }
@@ -0,0 +1,166 @@
+package org.lambda.util;
+
+import org.lambda.Lambda;
+
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.lambda.util.LambdaCollections.assignValue;
+
+/**
+ * A utility that bridges the Lambda class with the java.util.function and java.util.stream api so that code written
+ * against either can be used with the other without copying data into new collections.
+ */
+public class LambdaStreams {
+
+    private LambdaStreams() {
+    }
+
+    /**
+     * Return a Function that runs the logic within the given lambda with the function argument as its only argument.
+     * <p/>
+     * If the lambda was created by {@link #fromFunction(Function)} the original function is returned so no argument
+     * array is ever built.
+     *
+     * @param lambda - the Lambda object that contains the logic that will be run.
+     * @param <R>    - the return type of the Lambda.lambda method and the function.
+     * @param <A>    - the argument type of the Lambda.lambda method and the function.
+     * @return - a function backed by the given lambda.
+     */
+    public static <R, A> Function<A, R> toFunction(final Lambda<R, A> lambda) {
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaStreams.toFunction - lambda cannot be null.");
+
+        if (lambda instanceof FunctionLambda) {
+            return ((FunctionLambda<R, A>) lambda).function;
+        }
+
+        return new Function<A, R>() {
+            @Override
+            public R apply(A argument) {
+                return lambda.lambda(assignValue(argument));
+            }
+        };
+    }
+
+    /**
+     * Return a Predicate that is true when the given lambda returns true or not null for the predicate argument. This
+     * is the same rule used by LambdaCollections.some and LambdaCollections.every.
+     * <p/>
+     * If the lambda was created by {@link #fromPredicate(Predicate)} the original predicate is returned so no argument
+     * array is ever built.
+     *
+     * @param lambda - the Lambda object that contains the logic that will be run.
+     * @param <A>    - the argument type of the Lambda.lambda method and the predicate.
+     * @return - a predicate backed by the given lambda.
+     */
+    public static <A> Predicate<A> toPredicate(final Lambda<?, A> lambda) {
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.LambdaStreams.toPredicate - lambda cannot be null.");
+
+        if (lambda instanceof PredicateLambda) {
+            return ((PredicateLambda<A>) lambda).predicate;
+        }
+
+        return new Predicate<A>() {
+            @Override
+            public boolean test(A argument) {
+                Object result = lambda.lambda(assignValue(argument));
+                return null != result && !Boolean.FALSE.equals(result);
+            }
+        };
+    }
+
+    /**
+     * Return a Lambda that applies the given function to the first argument passed to the Lambda.lambda method.
+     *
+     * @param function - the function that contains the logic that will be run.
+     * @param <R>      - the return type of the function and the Lambda.lambda method.
+     * @param <A>      - the argument type of the function and the Lambda.lambda method.
+     * @return - a lambda backed by the given function.
+     */
+    public static <R, A> Lambda<R, A> fromFunction(Function<A, R> function) {
+        if (function == null) throw new NullPointerException(
+                "org.lambda.util.LambdaStreams.fromFunction - function cannot be null.");
+
+        return new FunctionLambda<R, A>(function);
+    }
+
+    /**
+     * Return a Lambda that tests the first argument passed to the Lambda.lambda method with the given predicate.
+     *
+     * @param predicate - the predicate that contains the logic that will be run.
+     * @param <A>       - the argument type of the predicate and the Lambda.lambda method.
+     * @return - a lambda backed by the given predicate.
+     */
+    public static <A> Lambda<Boolean, A> fromPredicate(Predicate<A> predicate) {
+        if (predicate == null) throw new NullPointerException(
+                "org.lambda.util.LambdaStreams.fromPredicate - predicate cannot be null.");
+
+        return new PredicateLambda<A>(predicate);
+    }
+
+    /**
+     * Return a Spliterator over the N-way zip of the provided collection/s. Each element is an array containing the
+     * element/s found at the same position within each collection, the same array that LambdaCollections would pass to
+     * the Lambda.lambda method. The size of the zip is the size of the shortest collection.
+     *
+     * @param collections - the collection/s to zip.
+     * @param <E>         - the type of the elements contained within the collection/s.
+     * @return - a splittable spliterator over the zipped collection/s.
+     */
+    public static <E> Spliterator<E[]> zip(Collection<E>... collections) {
+        return new ZipSpliterator<E>(collections);
+    }
+
+    /**
+     * Return a Stream over the N-way zip of the provided collection/s.
+     *
+     * @param parallel    - true if the returned stream should be parallel.
+     * @param collections - the collection/s to zip.
+     * @param <E>         - the type of the elements contained within the collection/s.
+     * @return - a stream of the zipped element arrays.
+     * @see #zip(Collection[])
+     */
+    public static <E> Stream<E[]> zipStream(boolean parallel, Collection<E>... collections) {
+        return StreamSupport.stream(zip(collections), parallel);
+    }
+
+    /**
+     * A Lambda backed by a Function, kept as a class so that it can be unwrapped by {@link #toFunction(Lambda)}.
+     */
+    private static class FunctionLambda<R, A> implements Lambda<R, A> {
+
+        private final Function<A, R> function;
+
+        private FunctionLambda(Function<A, R> function) {
+            this.function = function;
+        }
+
+        @Override
+        public R lambda(A... l) {
+            return function.apply(l[0]);
+        }
+    }
+
+    /**
+     * A Lambda backed by a Predicate, kept as a class so that it can be unwrapped by {@link #toPredicate(Lambda)}.
+     */
+    private static class PredicateLambda<A> implements Lambda<Boolean, A> {
+
+        private final Predicate<A> predicate;
+
+        private PredicateLambda(Predicate<A> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public Boolean lambda(A... l) {
+            return predicate.test(l[0]);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package org.lambda.util;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A set of primitive longs stored directly in a long array using open addressing with linear probing. A distinct value
+ * costs eight bytes of table rather than a boxed Long and a HashMap node, which makes it suitable for deduplicating
+ * very large numbers of numeric ids.
+ * <p/>
+ * The primitive add, contains and remove methods never box. The Set&lt;Long&gt; methods are provided so the set can be
+ * used anywhere a collection is expected. Elements can not be removed through the iterator. This set is not thread
+ * safe.
+ */
+public class LongOpenHashSet extends AbstractSet<Long> {
+
+    /**
+     * Marks an empty slot. Zero itself is recorded by a flag instead of in the table.
+     */
+    private static final long EMPTY = 0;
+
+    private long[] table;
+    private boolean hasZero;
+    private int size;
+    private int resizeAt;
+
+    /**
+     * Create an empty set.
+     */
+    public LongOpenHashSet() {
+        this(0);
+    }
+
+    /**
+     * Create an empty set that can hold the given number of values before it has to grow.
+     *
+     * @param expectedSize - the number of values that are expected to be added.
+     */
+    public LongOpenHashSet(int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException(
+                "org.lambda.util.LongOpenHashSet - expectedSize cannot be negative.");
+
+        allocate(OpenHashSet.capacityFor(expectedSize));
+    }
+
+    /**
+     * Add the given value to the set.
+     *
+     * @param value - the value to add.
+     * @return - true if the value was not already in the set.
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (hasZero) return false;
+
+            hasZero = true;
+            size++;
+            return true;
+        }
+
+        int mask = table.length - 1;
+        int i = mix(value) & mask;
+        for (long slot; (slot = table[i]) != EMPTY; i = (i + 1) & mask) {
+            if (slot == value) return false;
+        }
+        if (size >= OpenHashSet.MAX_SIZE) throw new IllegalStateException(
+                "org.lambda.util.LongOpenHashSet.add - the set is full at " + OpenHashSet.MAX_SIZE + " values.");
+
+        table[i] = value;
+        if (++size >= resizeAt && table.length < OpenHashSet.MAX_CAPACITY) {
+            resize(table.length << 1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Add every value of the given set to this set.
+     *
+     * @param values - the values to add.
+     * @return - true if any value was not already in the set.
+     */
+    public boolean addAll(LongOpenHashSet values) {
+        boolean changed = false;
+
+        for (PrimitiveIterator.OfLong iterator = values.iterator(); iterator.hasNext(); ) {
+            changed |= add(iterator.nextLong());
+        }
+
+        return changed;
+    }
+
+    /**
+     * @param value - the value to look for.
+     * @return - true if the value is in the set.
+     */
+    public boolean contains(long value) {
+        return value == EMPTY ? hasZero : indexOf(value) >= 0;
+    }
+
+    /**
+     * Remove the given value from the set.
+     *
+     * @param value - the value to remove.
+     * @return - true if the value was in the set.
+     */
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            if (!hasZero) return false;
+
+            hasZero = false;
+            size--;
+            return true;
+        }
+
+        int hole = indexOf(value);
+        if (hole < 0) return false;
+
+        // Shift back any following value of the same probe run that would no longer be reachable past the hole.
+        int mask = table.length - 1;
+        for (int i = (hole + 1) & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+            int home = mix(table[i]) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                table[hole] = table[i];
+                hole = i;
+            }
+        }
+        table[hole] = EMPTY;
+        size--;
+
+        return true;
+    }
+
+    /**
+     * @return - the values of the set in an array, in no particular order.
+     */
+    public long[] toLongArray() {
+        long[] values = new long[size];
+
+        int n = 0;
+        for (PrimitiveIterator.OfLong iterator = iterator(); iterator.hasNext(); ) {
+            values[n++] = iterator.nextLong();
+        }
+
+        return values;
+    }
+
+    @Override
+    public boolean add(Long value) {
+        return add(value.longValue());
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return value instanceof Long && contains(((Long) value).longValue());
+    }
+
+    @Override
+    public boolean remove(Object value) {
+        return value instanceof Long && remove(((Long) value).longValue());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        hasZero = false;
+        size = 0;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+
+            private boolean zero = hasZero;
+            private int next = advance(0);
+
+            @Override
+            public boolean hasNext() {
+                return zero || next < table.length;
+            }
+
+            @Override
+            public long nextLong() {
+                if (zero) {
+                    zero = false;
+                    return EMPTY;
+                }
+                if (next >= table.length) throw new NoSuchElementException();
+
+                long value = table[next];
+                next = advance(next + 1);
+
+                return value;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException(
+                        "org.lambda.util.LongOpenHashSet - remove is not supported by the iterator.");
+            }
+
+            private int advance(int i) {
+                while (i < table.length && table[i] == EMPTY) {
+                    i++;
+                }
+
+                return i;
+            }
+        };
+    }
+
+    /**
+     * Return the slot that holds the given non zero value.
+     *
+     * @param value - the value to look for.
+     * @return - the index of the slot or -1 if the value is not in the set.
+     */
+    private int indexOf(long value) {
+        int mask = table.length - 1;
+
+        int i = mix(value) & mask;
+        for (long slot; (slot = table[i]) != EMPTY; i = (i + 1) & mask) {
+            if (slot == value) return i;
+        }
+
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        long[] old = table;
+        allocate(capacity);
+
+        int mask = capacity - 1;
+        for (long value : old) {
+            if (value != EMPTY) {
+                int i = mix(value) & mask;
+                while (table[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        resizeAt = capacity / 3 * 2;
+    }
+
+    /**
+     * Spread the bits of the value so that sequential ids do not form long probe runs.
+     */
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+
+        return (int) (h ^ (h >>> 32));
+    }
+}
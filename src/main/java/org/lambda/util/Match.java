@@ -0,0 +1,38 @@
+package org.lambda.util;
+
+/**
+ * The first element/s found by LambdaCollections.find and the position they were found at.
+ *
+ * @param <E> - the type of the matched element/s.
+ */
+public class Match<E> {
+
+    private final int index;
+    private final E[] arguments;
+
+    Match(int index, E[] arguments) {
+        this.index = index;
+        this.arguments = arguments;
+    }
+
+    /**
+     * @return - the position of the match within the given collection/s.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return - the element/s that were passed to the Lambda.lambda method for the match, one from each collection.
+     */
+    public E[] getArguments() {
+        return arguments;
+    }
+
+    /**
+     * @return - the matched element of the first collection.
+     */
+    public E getElement() {
+        return arguments[0];
+    }
+}
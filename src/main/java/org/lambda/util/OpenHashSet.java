@@ -0,0 +1,210 @@
+package org.lambda.util;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash set that stores its elements directly in a single array using open addressing with linear probing. Unlike
+ * HashSet no entry object is created for each element, so a distinct element costs one array slot rather than a
+ * HashMap node, which makes it suitable for deduplicating very large numbers of results.
+ * <p/>
+ * Null is a valid element. Elements can be removed with {@link #remove(Object)} but not through the iterator. This set
+ * is not thread safe.
+ *
+ * @param <E> - the type of the elements contained within the set.
+ */
+public class OpenHashSet<E> extends AbstractSet<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The largest table, the largest power of two that an array can hold.
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * The most elements a set can hold, which keeps the largest table no more than two thirds full.
+     */
+    static final int MAX_SIZE = MAX_CAPACITY / 3 * 2;
+
+    /**
+     * Stands in for null within the table because an empty slot is null.
+     */
+    private static final Object NULL = new Object();
+
+    private Object[] table;
+    private int size;
+    private int resizeAt;
+
+    /**
+     * Create an empty set.
+     */
+    public OpenHashSet() {
+        this(DEFAULT_CAPACITY / 2);
+    }
+
+    /**
+     * Create an empty set that can hold the given number of elements before it has to grow.
+     *
+     * @param expectedSize - the number of elements that are expected to be added.
+     */
+    public OpenHashSet(int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException(
+                "org.lambda.util.OpenHashSet - expectedSize cannot be negative.");
+
+        allocate(capacityFor(expectedSize));
+    }
+
+    @Override
+    public boolean add(E element) {
+        Object key = element == null ? NULL : element;
+        int mask = table.length - 1;
+
+        int i = mix(key.hashCode()) & mask;
+        for (Object slot; (slot = table[i]) != null; i = (i + 1) & mask) {
+            if (slot == key || slot.equals(key)) return false;
+        }
+        if (size >= MAX_SIZE) throw new IllegalStateException(
+                "org.lambda.util.OpenHashSet.add - the set is full at " + MAX_SIZE + " elements.");
+
+        table[i] = key;
+        if (++size >= resizeAt && table.length < MAX_CAPACITY) {
+            resize(table.length << 1);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        int hole = indexOf(element);
+        if (hole < 0) return false;
+
+        // Shift back any following element of the same probe run that would no longer be reachable past the hole.
+        int mask = table.length - 1;
+        for (int i = (hole + 1) & mask; table[i] != null; i = (i + 1) & mask) {
+            int home = mix(table[i].hashCode()) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                table[hole] = table[i];
+                hole = i;
+            }
+        }
+        table[hole] = null;
+        size--;
+
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(table, null);
+        size = 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+
+            private int next = advance(0);
+
+            @Override
+            public boolean hasNext() {
+                return next < table.length;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+
+                Object key = table[next];
+                next = advance(next + 1);
+
+                return key == NULL ? null : (E) key;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException(
+                        "org.lambda.util.OpenHashSet - remove is not supported by the iterator.");
+            }
+
+            private int advance(int i) {
+                while (i < table.length && table[i] == null) {
+                    i++;
+                }
+
+                return i;
+            }
+        };
+    }
+
+    /**
+     * Return the slot that holds the given element.
+     *
+     * @param element - the element to look for.
+     * @return - the index of the slot or -1 if the element is not in the set.
+     */
+    private int indexOf(Object element) {
+        Object key = element == null ? NULL : element;
+        int mask = table.length - 1;
+
+        int i = mix(key.hashCode()) & mask;
+        for (Object slot; (slot = table[i]) != null; i = (i + 1) & mask) {
+            if (slot == key || slot.equals(key)) return i;
+        }
+
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        Object[] old = table;
+        allocate(capacity);
+
+        int mask = capacity - 1;
+        for (Object key : old) {
+            if (key != null) {
+                int i = mix(key.hashCode()) & mask;
+                while (table[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new Object[capacity];
+        resizeAt = capacity / 3 * 2;
+    }
+
+    /**
+     * Return the power of two table size that holds the given number of elements at no more than two thirds full.
+     */
+    static int capacityFor(int expectedSize) {
+        long needed = Math.max(DEFAULT_CAPACITY, (long) expectedSize * 3 / 2 + 1);
+        if (needed > MAX_CAPACITY) return MAX_CAPACITY;
+
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * Spread the bits of the hash code so that poor hash codes, e.g. sequential Integers, do not form long probe runs.
+     */
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+}
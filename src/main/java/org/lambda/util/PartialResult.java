@@ -0,0 +1,41 @@
+package org.lambda.util;
+
+import java.util.List;
+
+/**
+ * The result of a map that may have been stopped before every element was processed. The results always belong to the
+ * first {@link #getProcessed()} elements of the given collection/s, in order.
+ *
+ * @param <R> - the type of the results.
+ */
+public class PartialResult<R> {
+
+    private final List<R> results;
+    private final boolean complete;
+
+    PartialResult(List<R> results, boolean complete) {
+        this.results = results;
+        this.complete = complete;
+    }
+
+    /**
+     * @return - the results of the elements that were processed, in the order of the given collection/s.
+     */
+    public List<R> getResults() {
+        return results;
+    }
+
+    /**
+     * @return - the number of elements from the start of the given collection/s that were processed.
+     */
+    public int getProcessed() {
+        return results.size();
+    }
+
+    /**
+     * @return - true if every element was processed before the map was stopped.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+}
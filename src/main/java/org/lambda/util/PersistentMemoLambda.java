@@ -0,0 +1,511 @@
+package org.lambda.util;
+
+import org.lambda.Lambda;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * A Lambda that remembers the results of another lambda in a memory mapped file so that a job which is run again over
+ * mostly the same arguments can skip the work it has already done, even after the process has been restarted.
+ * <p/>
+ * Results are keyed on a stable 64 bit hash of the serialized argument/s. The serialized argument/s are stored with the
+ * result and compared on every hit so a hash collision is treated as a miss rather than returning the wrong result.
+ * <p/>
+ * The file is an append only log. Every record ends with a CRC32 of its contents and the file is scanned when it is
+ * opened, so a record that was only partly written when the process died is dropped along with anything after it.
+ * When an append would make the file larger than the size cap the most recently used results that fit in half of the
+ * cap are copied into a new file which then replaces the old one.
+ * <p/>
+ * The wrapped lambda is run outside of any lock so this lambda can be used from many threads at once.
+ *
+ * @param <R> - the return type of the wrapped Lambda.lambda method.
+ * @param <A> - the argument type of the wrapped Lambda.lambda method.
+ */
+public class PersistentMemoLambda<R, A> implements Lambda<R, A>, Closeable {
+
+    private static final int MAGIC = 0x4C4D454D;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int BLOCK_SIZE = 1 << 13;
+
+    /**
+     * The bytes used by a record on top of its key and value: the body length, the hash, the key length and the CRC.
+     */
+    private static final int RECORD_OVERHEAD = 4 + 8 + 4 + 4;
+
+    private final File file;
+    private final Lambda<R, A> lambda;
+    private final Serializer<A> argumentSerializer;
+    private final Serializer<R> resultSerializer;
+    private final int maxBytes;
+
+    /**
+     * The offset of the record for each hash with the least recently used hash first.
+     */
+    private final LinkedHashMap<Long, Integer> index = new LinkedHashMap<Long, Integer>(16, 0.75f, true);
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int end;
+    private long hits;
+    private long misses;
+
+    /**
+     * Open or create the memo file and wrap the given lambda.
+     *
+     * @param file               - the file the results are kept in. It is created if it does not exist.
+     * @param lambda             - the Lambda object that contains the logic whose results will be remembered.
+     * @param argumentSerializer - the serializer used to write the lambda argument/s to build the key.
+     * @param resultSerializer   - the serializer used to write and read the lambda results.
+     * @param maxBytes           - the largest size the file may grow to.
+     * @throws IOException if the file could not be opened or is not a memo file.
+     */
+    public PersistentMemoLambda(File file, Lambda<R, A> lambda, Serializer<A> argumentSerializer,
+                                Serializer<R> resultSerializer, int maxBytes) throws IOException {
+        if (file == null) throw new NullPointerException(
+                "org.lambda.util.PersistentMemoLambda - file cannot be null.");
+        if (lambda == null) throw new NullPointerException(
+                "org.lambda.util.PersistentMemoLambda - lambda cannot be null.");
+        if (argumentSerializer == null) throw new NullPointerException(
+                "org.lambda.util.PersistentMemoLambda - argumentSerializer cannot be null.");
+        if (resultSerializer == null) throw new NullPointerException(
+                "org.lambda.util.PersistentMemoLambda - resultSerializer cannot be null.");
+        if (maxBytes <= HEADER_SIZE) throw new IllegalArgumentException(
+                "org.lambda.util.PersistentMemoLambda - maxBytes must be larger than " + HEADER_SIZE + ".");
+
+        this.file = file;
+        this.lambda = lambda;
+        this.argumentSerializer = argumentSerializer;
+        this.resultSerializer = resultSerializer;
+        this.maxBytes = maxBytes;
+
+        open();
+    }
+
+    /**
+     * Return the remembered result for the given argument/s, or run the wrapped lambda and remember its result.
+     *
+     * @param l the argument/s that will be passed to the wrapped lambda.
+     * @return the result of the wrapped lambda for the given argument/s.
+     */
+    @Override
+    public R lambda(A... l) {
+        byte[] key = key(l);
+        long hash = hash(key);
+
+        synchronized (this) {
+            if (channel == null) throw new IllegalStateException(
+                    "org.lambda.util.PersistentMemoLambda.lambda - the memo file has been closed.");
+
+            Integer offset = index.get(hash);
+            if (offset != null) {
+                byte[] value = valueAt(offset, key);
+                if (value != null) {
+                    hits++;
+                    return read(value);
+                }
+            }
+            misses++;
+        }
+
+        R result = lambda.lambda(l);
+        byte[] value = write(result);
+
+        synchronized (this) {
+            append(hash, key, value);
+        }
+
+        return result;
+    }
+
+    /**
+     * @return - the number of calls that were answered from the file.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return - the number of calls that had to run the wrapped lambda.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return - the fraction of calls that were answered from the file, or 0 if there have been no calls.
+     */
+    public synchronized double getHitRate() {
+        long calls = hits + misses;
+
+        return calls == 0 ? 0 : (double) hits / calls;
+    }
+
+    /**
+     * @return - the number of results held in the file.
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Flush the file to disk, trim it to the records it holds and close it.
+     *
+     * @throws IOException if the file could not be flushed or closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel == null) return;
+
+        buffer.force();
+        try {
+            channel.truncate(end);
+        } catch (IOException e) {
+            // Some platforms will not truncate a mapped file, the zeroed tail is read as the end of the log anyway.
+        }
+        channel.close();
+        channel = null;
+        unmap(buffer);
+        buffer = null;
+    }
+
+    /**
+     * Map the file, writing a header if it is new, and index every complete record. Anything after the last complete
+     * record is cut off. If the file can not be opened this lambda is left closed.
+     */
+    private void open() throws IOException {
+        try {
+            channel = new RandomAccessFile(file, "rw").getChannel();
+
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) throw new IOException(
+                    "org.lambda.util.PersistentMemoLambda - " + file + " is too large to map.");
+
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(maxBytes, length));
+            index.clear();
+
+            if (length < HEADER_SIZE) {
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                end = HEADER_SIZE;
+                return;
+            }
+
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) throw new IOException(
+                    "org.lambda.util.PersistentMemoLambda - " + file + " is not a memo file.");
+
+            end = HEADER_SIZE;
+            while (true) {
+                byte[] body = bodyAt(end);
+                if (body == null) break;
+
+                index.put(bodyHash(body), end);
+                end += 4 + body.length + 4;
+            }
+
+            if (length > end) {
+                cutTail(length);
+            }
+        } catch (IOException e) {
+            release();
+            throw e;
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    /**
+     * Remove whatever follows the last complete record, e.g. a torn record or the unused tail of a file that was not
+     * closed, so that it can not be mistaken for a record once new records are appended over it. The file is
+     * truncated and mapped again, which leaves the rest of the cap as an unwritten hole rather than touching every page
+     * up to it.
+     *
+     * @param length - the length of the file before it was mapped.
+     */
+    private void cutTail(long length) throws IOException {
+        unmap(buffer);
+        buffer = null;
+        try {
+            channel.truncate(end);
+        } catch (IOException e) {
+            // Some platforms will not truncate a file that is still mapped, zero the tail through the mapping instead.
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(maxBytes, length));
+            byte[] zeros = new byte[BLOCK_SIZE];
+            for (int i = end; i < length; i += BLOCK_SIZE) {
+                buffer.position(i);
+                buffer.put(zeros, 0, (int) Math.min(BLOCK_SIZE, length - i));
+            }
+            return;
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, maxBytes);
+    }
+
+    /**
+     * Close the channel and drop the mapping without flushing, leaving this lambda closed.
+     */
+    private void release() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // The channel is being discarded, there is nothing more to do with it.
+            }
+        }
+        if (buffer != null) {
+            unmap(buffer);
+        }
+        channel = null;
+        buffer = null;
+    }
+
+    /**
+     * Return the body of the record at the given offset, or null if there is no complete record there.
+     */
+    private byte[] bodyAt(int offset) {
+        if (offset + 4 > buffer.capacity()) return null;
+
+        int length = buffer.getInt(offset);
+        if (length < 12 || (long) offset + 4 + length + 4 > buffer.capacity()) return null;
+
+        byte[] body = new byte[length];
+        for (int i = 0; i < length; i++) {
+            body[i] = buffer.get(offset + 4 + i);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        if ((int) crc.getValue() != buffer.getInt(offset + 4 + length)) return null;
+
+        return body;
+    }
+
+    /**
+     * Return the value bytes of the record at the given offset if its key matches the given key otherwise null.
+     */
+    private byte[] valueAt(int offset, byte[] key) {
+        byte[] body = bodyAt(offset);
+        if (body == null) return null;
+
+        int keyLength = readInt(body, 8);
+        if (keyLength != key.length) return null;
+        for (int i = 0; i < keyLength; i++) {
+            if (body[12 + i] != key[i]) return null;
+        }
+
+        return Arrays.copyOfRange(body, 12 + keyLength, body.length);
+    }
+
+    /**
+     * Append a record to the end of the file, compacting the file first if the record would not fit under the cap.
+     * The record length is written last so that a record is never seen until the rest of it is in place.
+     */
+    private void append(long hash, byte[] key, byte[] value) {
+        if (channel == null) throw new IllegalStateException(
+                "org.lambda.util.PersistentMemoLambda.lambda - the memo file has been closed.");
+
+        int size = RECORD_OVERHEAD + key.length + value.length;
+        if (size > (maxBytes - HEADER_SIZE) / 2) return;
+
+        if ((long) end + size > maxBytes) {
+            try {
+                compact();
+            } catch (IOException e) {
+                throw new RuntimeException("org.lambda.util.PersistentMemoLambda.lambda - memo file could not be "
+                        + "compacted. " + e.getMessage(), e);
+            }
+        }
+
+        byte[] body = new byte[8 + 4 + key.length + value.length];
+        writeLong(body, 0, hash);
+        writeInt(body, 8, key.length);
+        System.arraycopy(key, 0, body, 12, key.length);
+        System.arraycopy(value, 0, body, 12 + key.length, value.length);
+
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        int offset = end;
+        for (int i = 0; i < body.length; i++) {
+            buffer.put(offset + 4 + i, body[i]);
+        }
+        buffer.putInt(offset + 4 + body.length, (int) crc.getValue());
+        buffer.putInt(offset, body.length);
+
+        index.put(hash, offset);
+        end += size;
+    }
+
+    /**
+     * Copy the most recently used records that fit in half of the cap into a new file and replace the old file with
+     * it.
+     */
+    private void compact() throws IOException {
+        List<Integer> offsets = new ArrayList<Integer>(index.values());
+        Collections.reverse(offsets);
+
+        List<byte[]> kept = new ArrayList<byte[]>();
+        long size = HEADER_SIZE;
+        for (Integer offset : offsets) {
+            byte[] body = bodyAt(offset);
+            if (body == null) continue;
+            if (size + body.length + 8 > maxBytes / 2) break;
+
+            kept.add(body);
+            size += body.length + 8;
+        }
+        Collections.reverse(kept);
+
+        File compacted = new File(file.getPath() + ".compact");
+        try {
+            FileOutputStream stream = new FileOutputStream(compacted);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+            try {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                for (byte[] body : kept) {
+                    CRC32 crc = new CRC32();
+                    crc.update(body);
+
+                    out.writeInt(body.length);
+                    out.write(body);
+                    out.writeInt((int) crc.getValue());
+                }
+                out.flush();
+                // The new file must be on disk before the rename is, or a power loss could leave an empty log behind.
+                stream.getFD().sync();
+            } finally {
+                out.close();
+            }
+
+            Files.move(compacted.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            compacted.delete();
+            throw e;
+        }
+
+        // The live mapping is only let go once the compacted file has replaced it, so a failed compaction leaves it
+        // in use. If the new file can not be opened this lambda is left closed.
+        release();
+        open();
+    }
+
+    /**
+     * Serialize the argument/s into the key bytes. Each argument is a flag byte recording whether it is null followed
+     * by its serialized form.
+     */
+    private byte[] key(A[] arguments) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(arguments.length);
+            for (A argument : arguments) {
+                out.writeBoolean(argument != null);
+                if (argument != null) argumentSerializer.write(argument, out);
+            }
+            out.close();
+
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("org.lambda.util.PersistentMemoLambda.lambda - arguments could not be "
+                    + "serialized. " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] write(R result) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeBoolean(result != null);
+            if (result != null) resultSerializer.write(result, out);
+            out.close();
+
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("org.lambda.util.PersistentMemoLambda.lambda - result could not be "
+                    + "serialized. " + e.getMessage(), e);
+        }
+    }
+
+    private R read(byte[] value) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(value));
+
+            return in.readBoolean() ? resultSerializer.read(in) : null;
+        } catch (IOException e) {
+            throw new RuntimeException("org.lambda.util.PersistentMemoLambda.lambda - result could not be read. "
+                    + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Release the memory mapping of the given buffer straight away rather than when it is garbage collected, so that
+     * compacting does not leave a mapping of the whole cap behind each time. The JDK has no public way to do this, so
+     * the JDK internal cleaner is used if it can be reached and otherwise the mapping is left for the garbage
+     * collector. The buffer must not be used again.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafe.get(null), buffer);
+        } catch (NoSuchMethodException e) {
+            // Before Java 9 the cleaner is reached through the buffer itself.
+            try {
+                Method cleaner = buffer.getClass().getMethod("cleaner");
+                cleaner.setAccessible(true);
+                Object clean = cleaner.invoke(buffer);
+                clean.getClass().getMethod("clean").invoke(clean);
+            } catch (Exception ignored) {
+                // The mapping is released when the buffer is garbage collected.
+            }
+        } catch (Exception e) {
+            // The mapping is released when the buffer is garbage collected.
+        }
+    }
+
+    /**
+     * Return the 64 bit FNV-1a hash of the given bytes. Unlike Object.hashCode this is the same in every process.
+     */
+    private static long hash(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+
+        return hash;
+    }
+
+    private static long bodyHash(byte[] body) {
+        return ((long) readInt(body, 0) << 32) | (readInt(body, 4) & 0xffffffffL);
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xff) << 24 | (bytes[offset + 1] & 0xff) << 16
+                | (bytes[offset + 2] & 0xff) << 8 | (bytes[offset + 3] & 0xff);
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        writeInt(bytes, offset, (int) (value >>> 32));
+        writeInt(bytes, offset + 4, (int) value);
+    }
+}
@@ -0,0 +1,64 @@
+package org.lambda.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A fork join task that recursively halves a range of indexes until each half is no larger than the threshold and then
+ * runs the leaf logic over that half.
+ */
+abstract class RangeTask extends RecursiveAction {
+
+    protected final int from;
+    protected final int to;
+    protected final int threshold;
+
+    /**
+     * @param from      - the first index of the range, inclusive.
+     * @param to        - the last index of the range, exclusive.
+     * @param threshold - the largest range that will be run without being split.
+     */
+    RangeTask(int from, int to, int threshold) {
+        this.from = from;
+        this.to = to;
+        this.threshold = Math.max(1, threshold);
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            run(from, to);
+        } else {
+            int mid = (from + to) >>> 1;
+            invokeAll(subtask(from, mid), subtask(mid, to));
+        }
+    }
+
+    /**
+     * Run the leaf logic over the given range.
+     *
+     * @param from - the first index of the range, inclusive.
+     * @param to   - the last index of the range, exclusive.
+     */
+    protected abstract void run(int from, int to);
+
+    /**
+     * Create a task of the same kind over the given sub range.
+     *
+     * @param from - the first index of the sub range, inclusive.
+     * @param to   - the last index of the sub range, exclusive.
+     * @return - the new task.
+     */
+    protected abstract RangeTask subtask(int from, int to);
+
+    /**
+     * Return a threshold that splits the given number of elements into a few chunks for every worker in the common
+     * fork join pool so that uneven chunks can be stolen by idle workers.
+     *
+     * @param size - the number of elements that will be split.
+     * @return - the largest range that should be run without being split.
+     */
+    static int threshold(int size) {
+        return Math.max(1, size / (ForkJoinPool.getCommonPoolParallelism() * 8));
+    }
+}
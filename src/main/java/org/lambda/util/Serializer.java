@@ -0,0 +1,32 @@
+package org.lambda.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Serializer interface that should be implemented to write values of a given type to, and read them back from, the
+ * compact binary files used by the collections and lambdas in this package that keep their data on disk.
+ *
+ * @param <E> the type of value that is serialized.
+ */
+public interface Serializer<E> {
+
+    /**
+     * Write the given value to the output. The value will never be null.
+     *
+     * @param value the value to write.
+     * @param out   the output to write the value to.
+     * @throws IOException if the value could not be written.
+     */
+    public void write(E value, DataOutput out) throws IOException;
+
+    /**
+     * Read a value that was written by {@link #write(Object, DataOutput)} back from the input.
+     *
+     * @param in the input to read the value from.
+     * @return the value that was read.
+     * @throws IOException if the value could not be read.
+     */
+    public E read(DataInput in) throws IOException;
+}
@@ -0,0 +1,118 @@
+package org.lambda.util;
+
+import java.io.*;
+import java.nio.charset.Charset;
+
+/**
+ * A set of Serializer implementations for the common Java types.
+ */
+public class Serializers {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * Writes an Integer as four bytes.
+     */
+    public static final Serializer<Integer> INTEGER = new Serializer<Integer>() {
+        @Override
+        public void write(Integer value, DataOutput out) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /**
+     * Writes a Long as eight bytes.
+     */
+    public static final Serializer<Long> LONG = new Serializer<Long>() {
+        @Override
+        public void write(Long value, DataOutput out) throws IOException {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    /**
+     * Writes a Double as eight bytes.
+     */
+    public static final Serializer<Double> DOUBLE = new Serializer<Double>() {
+        @Override
+        public void write(Double value, DataOutput out) throws IOException {
+            out.writeDouble(value);
+        }
+
+        @Override
+        public Double read(DataInput in) throws IOException {
+            return in.readDouble();
+        }
+    };
+
+    /**
+     * Writes a String as its length followed by its UTF-8 bytes. Unlike DataOutput.writeUTF this has no length limit.
+     */
+    public static final Serializer<String> STRING = new Serializer<String>() {
+        @Override
+        public void write(String value, DataOutput out) throws IOException {
+            byte[] bytes = value.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+
+            return new String(bytes, UTF_8);
+        }
+    };
+
+    private Serializers() {
+    }
+
+    /**
+     * Return a Serializer that writes any Serializable value with Java serialization. This works for every
+     * Serializable type but is much larger and slower than a type specific serializer.
+     *
+     * @param <E> - the type of value that is serialized.
+     * @return - a Java serialization backed serializer.
+     */
+    public static <E extends Serializable> Serializer<E> serializable() {
+        return new Serializer<E>() {
+            @Override
+            public void write(E value, DataOutput out) throws IOException {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                ObjectOutputStream objects = new ObjectOutputStream(bytes);
+                objects.writeObject(value);
+                objects.close();
+
+                out.writeInt(bytes.size());
+                out.write(bytes.toByteArray());
+            }
+
+            @Override
+            public E read(DataInput in) throws IOException {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+
+                ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(bytes));
+                try {
+                    return (E) objects.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("org.lambda.util.Serializers.serializable - class not found. "
+                            + e.getMessage(), e);
+                } finally {
+                    objects.close();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,653 @@
+package org.lambda.util;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A collection that serializes its elements into an in-memory byte buffer until the buffer reaches a byte threshold
+ * and then spills the bytes to a temporary run file on local disk. This lets the result of a LambdaCollections.map
+ * call be larger than the heap by passing an instance as the return collection.
+ * <p/>
+ * If a comparator is given every run is sorted before it is written and the iterator performs an external merge of the
+ * runs, so the elements are returned in sorted order. Otherwise the elements are returned in the order they were added.
+ * <p/>
+ * Each element is serialized once, when it is added. Without a comparator only the serialized bytes are kept, so the
+ * buffer takes less than twice the threshold of heap, the buffer array growing by doubling, plus one element. With a
+ * comparator the buffered elements are also kept as objects so they can be sorted before they are written, so the
+ * heap used is that plus the in-memory size of the elements buffered since the last spill, which depending on the type
+ * can be several times the threshold. Iteration streams the runs from disk and needs a read buffer for each merged run
+ * on top of that.
+ * <p/>
+ * The iterator keeps the run files it reads open until it has been read to the end. An iterator that is abandoned part
+ * way through should be closed with {@link CloseableIterator#close()}, otherwise its files stay open until
+ * {@link #clear()} or {@link #close()} is called.
+ * <p/>
+ * Elements can not be removed individually. The run files are deleted by {@link #clear()} or {@link #close()} and
+ * nothing else, so a collection that has spilled must be closed. The files are not registered for deletion when the
+ * JVM exits, as that would hold the name of every run ever written on the heap until then. This collection is not
+ * thread safe and must not be added to while it is being iterated.
+ *
+ * @param <E> - the type of the elements contained within the collection.
+ */
+public class SpillableCollection<E> extends AbstractCollection<E> implements Closeable {
+
+    /**
+     * The largest number of runs that are read at the same time by a merge. Any more are merged into larger runs first.
+     */
+    private static final int MAX_MERGE_WIDTH = 64;
+
+    /**
+     * The most serialized bytes that are buffered whatever the threshold, well within the largest possible byte array.
+     */
+    private static final int MAX_BUFFERED_BYTES = 1 << 30;
+
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private final Serializer<E> serializer;
+    private final long threshold;
+    private final Comparator<? super E> comparator;
+    private final File directory;
+
+    private final Bytes bytes = new Bytes();
+    private final DataOutputStream buffer = new DataOutputStream(bytes);
+    private final List<E> elements = new ArrayList<E>();
+    private int[] offsets = new int[16];
+    private int buffered;
+    private final List<Run> runs = new ArrayList<Run>();
+    private final List<RunIterator> readers = new ArrayList<RunIterator>();
+    private long size;
+
+    /**
+     * Create a collection that returns its elements in the order they were added and spills to the default temporary
+     * directory.
+     *
+     * @param serializer - the serializer used to write the elements to disk.
+     * @param threshold  - the number of serialized bytes that will be held in memory before they are spilled.
+     */
+    public SpillableCollection(Serializer<E> serializer, long threshold) {
+        this(serializer, threshold, null, null);
+    }
+
+    /**
+     * Create a collection that returns its elements sorted by the given comparator and spills to the default temporary
+     * directory.
+     *
+     * @param serializer - the serializer used to write the elements to disk.
+     * @param threshold  - the number of serialized bytes that will be held in memory before they are spilled.
+     * @param comparator - the comparator used to sort the elements, or null to keep the order they were added in.
+     */
+    public SpillableCollection(Serializer<E> serializer, long threshold, Comparator<? super E> comparator) {
+        this(serializer, threshold, comparator, null);
+    }
+
+    /**
+     * Create a collection that spills to the given directory.
+     *
+     * @param serializer - the serializer used to write the elements to disk.
+     * @param threshold  - the number of serialized bytes that will be held in memory before they are spilled.
+     * @param comparator - the comparator used to sort the elements, or null to keep the order they were added in.
+     * @param directory  - the directory the run files are written to, or null for the default temporary directory.
+     */
+    public SpillableCollection(Serializer<E> serializer, long threshold, Comparator<? super E> comparator,
+                               File directory) {
+        if (serializer == null) throw new NullPointerException(
+                "org.lambda.util.SpillableCollection - serializer cannot be null.");
+        if (threshold <= 0) throw new IllegalArgumentException(
+                "org.lambda.util.SpillableCollection - threshold must be positive.");
+
+        this.serializer = serializer;
+        this.threshold = Math.min(threshold, MAX_BUFFERED_BYTES);
+        this.comparator = comparator;
+        this.directory = directory;
+    }
+
+    @Override
+    public boolean add(E element) {
+        int offset = bytes.size();
+        try {
+            writeElement(element, buffer);
+        } catch (IOException e) {
+            bytes.truncate(offset);
+            throw new RuntimeException("org.lambda.util.SpillableCollection.add - element could not be serialized. "
+                    + e.getMessage(), e);
+        }
+
+        if (comparator != null) {
+            if (buffered == offsets.length) {
+                offsets = Arrays.copyOf(offsets, buffered * 2);
+            }
+            offsets[buffered] = offset;
+            elements.add(element);
+        }
+        buffered++;
+        size++;
+
+        if (bytes.size() >= threshold) {
+            spill();
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        CloseableIterator<E> iterator = iterator();
+        try {
+            while (iterator.hasNext()) {
+                E next = iterator.next();
+                if (element == null ? next == null : element.equals(next)) return true;
+            }
+
+            return false;
+        } finally {
+            iterator.close();
+        }
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        throw new UnsupportedOperationException("org.lambda.util.SpillableCollection - remove is not supported.");
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return - the number of run files that have been spilled to disk and not yet deleted.
+     */
+    public int getRunCount() {
+        return runs.size();
+    }
+
+    /**
+     * @return - the number of run files currently held open by iterators.
+     */
+    int getOpenRunCount() {
+        return readers.size();
+    }
+
+    /**
+     * Return an iterator over the elements of this collection. The iterator should be closed if it is not read to the
+     * end.
+     *
+     * @return - an iterator that streams the elements from disk.
+     */
+    @Override
+    public CloseableIterator<E> iterator() {
+        if (runs.isEmpty()) {
+            return bufferIterator();
+        }
+
+        if (comparator == null) {
+            return new ConcatenatingIterator();
+        }
+
+        while (runs.size() > MAX_MERGE_WIDTH) {
+            compact();
+        }
+
+        List<CloseableIterator<E>> sources = new ArrayList<CloseableIterator<E>>();
+        try {
+            for (Run run : runs) {
+                sources.add(new RunIterator(run));
+            }
+            sources.add(bufferIterator());
+
+            return new MergingIterator(sources);
+        } catch (RuntimeException e) {
+            closeAll(sources);
+            throw e;
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (RunIterator reader : new ArrayList<RunIterator>(readers)) {
+            reader.close();
+        }
+
+        for (Run run : runs) {
+            run.file.delete();
+        }
+        runs.clear();
+        resetBuffer();
+        size = 0;
+    }
+
+    /**
+     * Close any open run readers and delete all the run files.
+     */
+    @Override
+    public void close() {
+        clear();
+    }
+
+    /**
+     * Write the buffered elements to a new run file, sorted first if a comparator was given.
+     */
+    private void spill() {
+        runs.add(write(new RunContent() {
+            @Override
+            public void writeTo(DataOutputStream out) throws IOException {
+                if (comparator == null) {
+                    bytes.writeTo(out);
+                    return;
+                }
+
+                for (int i : sortedOrder()) {
+                    out.write(bytes.array(), offsets[i], end(i) - offsets[i]);
+                }
+            }
+        }, buffered));
+        resetBuffer();
+    }
+
+    /**
+     * Merge the first MAX_MERGE_WIDTH runs into a single run at the end of the run list.
+     */
+    private void compact() {
+        List<Run> merged = new ArrayList<Run>(runs.subList(0, MAX_MERGE_WIDTH));
+        List<CloseableIterator<E>> sources = new ArrayList<CloseableIterator<E>>();
+        long count = 0;
+        try {
+            for (Run run : merged) {
+                sources.add(new RunIterator(run));
+                count += run.count;
+            }
+
+            final MergingIterator merge = new MergingIterator(sources);
+            final long total = count;
+            Run run = write(new RunContent() {
+                @Override
+                public void writeTo(DataOutputStream out) throws IOException {
+                    for (long i = 0; i < total; i++) {
+                        writeElement(merge.next(), out);
+                    }
+                }
+            }, count);
+
+            for (Run old : merged) {
+                old.file.delete();
+            }
+            runs.subList(0, MAX_MERGE_WIDTH).clear();
+            runs.add(run);
+        } finally {
+            closeAll(sources);
+        }
+    }
+
+    /**
+     * Write a new run file holding the given number of elements.
+     *
+     * @param content - writes the serialized elements of the run.
+     * @param count   - the number of elements written.
+     * @return - the new run.
+     */
+    private Run write(RunContent content, long count) {
+        File file = null;
+        DataOutputStream out = null;
+        try {
+            file = File.createTempFile("lambda-spill", ".run", directory);
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+
+            content.writeTo(out);
+            out.close();
+        } catch (IOException e) {
+            if (out != null) closeQuietly(out);
+            if (file != null) file.delete();
+            throw new RuntimeException("org.lambda.util.SpillableCollection.spill - run could not be written. "
+                    + e.getMessage(), e);
+        }
+
+        return new Run(file, count);
+    }
+
+    /**
+     * Write a single element prefixed by a flag byte that records whether it is null.
+     */
+    private void writeElement(E element, DataOutput out) throws IOException {
+        if (element == null) {
+            out.writeBoolean(false);
+        } else {
+            out.writeBoolean(true);
+            serializer.write(element, out);
+        }
+    }
+
+    /**
+     * Return the positions of the buffered elements in the order of the comparator. The sort is stable so equal
+     * elements keep the order they were added in.
+     */
+    private Integer[] sortedOrder() {
+        Integer[] order = new Integer[buffered];
+        for (int i = 0; i < buffered; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return comparator.compare(elements.get(a), elements.get(b));
+            }
+        });
+
+        return order;
+    }
+
+    /**
+     * Return the offset just past the serialized bytes of the buffered element at the given position.
+     */
+    private int end(int i) {
+        return i + 1 < buffered ? offsets[i + 1] : bytes.size();
+    }
+
+    /**
+     * Return an iterator over the buffered elements, in sorted order if a comparator was given.
+     */
+    private CloseableIterator<E> bufferIterator() {
+        if (comparator == null) {
+            return new BufferIterator();
+        }
+
+        final Integer[] order = sortedOrder();
+        return new CloseableIterator<E>() {
+
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < order.length;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+
+                return elements.get(order[next++]);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException(
+                        "org.lambda.util.SpillableCollection - remove is not supported.");
+            }
+
+            @Override
+            public void close() {
+                next = order.length;
+            }
+        };
+    }
+
+    private void resetBuffer() {
+        bytes.reset();
+        elements.clear();
+        buffered = 0;
+    }
+
+    private static <E> void closeAll(List<CloseableIterator<E>> iterators) {
+        for (CloseableIterator<E> iterator : iterators) {
+            iterator.close();
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Nothing more can be done with a stream that will not close.
+        }
+    }
+
+    /**
+     * Writes the serialized elements of a new run.
+     */
+    private interface RunContent {
+
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * A run file and the number of elements written to it.
+     */
+    private static class Run {
+
+        private final File file;
+        private final long count;
+
+        private Run(File file, long count) {
+            this.file = file;
+            this.count = count;
+        }
+    }
+
+    /**
+     * A ByteArrayOutputStream that exposes its array so that the buffered elements can be read and written without
+     * being copied.
+     */
+    private static class Bytes extends ByteArrayOutputStream {
+
+        private byte[] array() {
+            return buf;
+        }
+
+        private void truncate(int size) {
+            count = size;
+        }
+    }
+
+    /**
+     * Reads the buffered elements back from their serialized bytes.
+     */
+    private class BufferIterator implements CloseableIterator<E> {
+
+        private final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.array(), 0,
+                bytes.size()));
+        private int remaining = buffered;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public E next() {
+            if (remaining <= 0) throw new NoSuchElementException();
+
+            try {
+                remaining--;
+                return in.readBoolean() ? serializer.read(in) : null;
+            } catch (IOException e) {
+                throw new RuntimeException("org.lambda.util.SpillableCollection.iterator - buffer could not be read. "
+                        + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("org.lambda.util.SpillableCollection - remove is not supported.");
+        }
+
+        @Override
+        public void close() {
+            remaining = 0;
+        }
+    }
+
+    /**
+     * Streams the elements of a single run from disk, closing the file once the last element has been read.
+     */
+    private class RunIterator implements CloseableIterator<E> {
+
+        private final DataInputStream in;
+        private long remaining;
+
+        private RunIterator(Run run) {
+            try {
+                in = new DataInputStream(new BufferedInputStream(new FileInputStream(run.file), BUFFER_SIZE));
+            } catch (FileNotFoundException e) {
+                throw new RuntimeException("org.lambda.util.SpillableCollection.iterator - run could not be opened. "
+                        + e.getMessage(), e);
+            }
+            remaining = run.count;
+            readers.add(this);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public E next() {
+            if (remaining <= 0) throw new NoSuchElementException();
+
+            try {
+                E element = in.readBoolean() ? serializer.read(in) : null;
+                if (--remaining == 0) {
+                    close();
+                }
+
+                return element;
+            } catch (IOException e) {
+                close();
+                throw new RuntimeException("org.lambda.util.SpillableCollection.iterator - run could not be read. "
+                        + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("org.lambda.util.SpillableCollection - remove is not supported.");
+        }
+
+        @Override
+        public void close() {
+            remaining = 0;
+            if (readers.remove(this)) {
+                closeQuietly(in);
+            }
+        }
+    }
+
+    /**
+     * Returns the elements of every run followed by the buffered elements, opening each run only once the one before
+     * it has been read.
+     */
+    private class ConcatenatingIterator implements CloseableIterator<E> {
+
+        private final List<Run> pending = new ArrayList<Run>(runs);
+        private int next;
+        private CloseableIterator<E> current;
+
+        @Override
+        public boolean hasNext() {
+            while (current == null || !current.hasNext()) {
+                if (next < pending.size()) {
+                    current = new RunIterator(pending.get(next++));
+                } else if (next == pending.size()) {
+                    current = bufferIterator();
+                    next++;
+                } else {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            return current.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("org.lambda.util.SpillableCollection - remove is not supported.");
+        }
+
+        @Override
+        public void close() {
+            if (current != null) {
+                current.close();
+            }
+            next = pending.size() + 1;
+        }
+    }
+
+    /**
+     * Merges already sorted sources into one sorted stream. Elements that compare equal are returned in source order.
+     */
+    private class MergingIterator implements CloseableIterator<E> {
+
+        private final List<CloseableIterator<E>> sources;
+        private final PriorityQueue<Head> heads;
+
+        private MergingIterator(List<CloseableIterator<E>> sources) {
+            this.sources = sources;
+            this.heads = new PriorityQueue<Head>(Math.max(1, sources.size()));
+
+            for (int i = 0; i < sources.size(); i++) {
+                advance(i);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            Head head = heads.poll();
+            if (head == null) throw new NoSuchElementException();
+
+            advance(head.source);
+
+            return head.element;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("org.lambda.util.SpillableCollection - remove is not supported.");
+        }
+
+        @Override
+        public void close() {
+            heads.clear();
+            closeAll(sources);
+        }
+
+        private void advance(int source) {
+            Iterator<E> iterator = sources.get(source);
+            if (iterator.hasNext()) {
+                heads.add(new Head(iterator.next(), source));
+            }
+        }
+
+        /**
+         * The next element of one of the sources.
+         */
+        private class Head implements Comparable<Head> {
+
+            private final E element;
+            private final int source;
+
+            private Head(E element, int source) {
+                this.element = element;
+                this.source = source;
+            }
+
+            @Override
+            public int compareTo(Head other) {
+                int compare = comparator.compare(element, other.element);
+
+                return compare != 0 ? compare : source - other.source;
+            }
+        }
+    }
+}
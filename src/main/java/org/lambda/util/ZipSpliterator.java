@@ -0,0 +1,149 @@
+package org.lambda.util;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.lambda.util.LambdaCollections.assignValues;
+import static org.lambda.util.LambdaCollections.getIterators;
+import static org.lambda.util.LambdaCollections.haveNext;
+
+/**
+ * A Spliterator over the N-way zip of the provided collection/s. Each element produced is an array containing the
+ * element/s found at the same position within each collection, exactly as they would be passed to the Lambda.lambda
+ * method by LambdaCollections.
+ * <p/>
+ * If every collection is a random access list the zip is split by index so each half reports an exact size.
+ * Otherwise the zip is walked with iterators and split by copying batches of tuples into arrays.
+ *
+ * @param <E> - the type of the elements contained within the zipped collection/s.
+ */
+class ZipSpliterator<E> implements Spliterator<E[]> {
+
+    /**
+     * The number of tuples taken by the first batch of an iterator split, each later batch takes this many more.
+     */
+    private static final int BATCH_UNIT = 1 << 10;
+
+    /**
+     * The largest number of tuples that a single iterator split will copy into an array.
+     */
+    private static final int MAX_BATCH = 1 << 25;
+
+    private final List<E>[] lists;
+    private final Iterator<E>[] iterators;
+    private int index;
+    private int fence;
+    private long estimate;
+    private int batch;
+
+    /**
+     * Create a spliterator over the N-way zip of the provided collection/s.
+     *
+     * @param collections - the collection/s to zip.
+     */
+    ZipSpliterator(Collection<E>... collections) {
+        if (collections == null || collections.length == 0) throw new NullPointerException(
+                "org.lambda.util.ZipSpliterator - collections cannot be null or empty.");
+
+        long size = Long.MAX_VALUE;
+        boolean randomAccess = true;
+        for (Collection<E> collection : collections) {
+            size = Math.min(size, collection.size());
+            randomAccess &= collection instanceof List && collection instanceof RandomAccess;
+        }
+
+        if (randomAccess) {
+            this.lists = (List<E>[]) new List[collections.length];
+            for (int i = 0; i < collections.length; i++) {
+                this.lists[i] = (List<E>) collections[i];
+            }
+            this.iterators = null;
+            this.index = 0;
+            this.fence = (int) size;
+        } else {
+            this.lists = null;
+            this.iterators = getIterators(collections);
+            this.estimate = size;
+        }
+    }
+
+    private ZipSpliterator(List<E>[] lists, int index, int fence) {
+        this.lists = lists;
+        this.iterators = null;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E[]> action) {
+        if (action == null) throw new NullPointerException(
+                "org.lambda.util.ZipSpliterator.tryAdvance - action cannot be null.");
+
+        if (lists != null) {
+            if (index >= fence) return false;
+
+            action.accept(assignValues(index++, lists));
+            return true;
+        }
+
+        if (!haveNext(iterators)) return false;
+
+        action.accept(assignValues(iterators));
+        if (estimate > 0) estimate--;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E[]> action) {
+        if (action == null) throw new NullPointerException(
+                "org.lambda.util.ZipSpliterator.forEachRemaining - action cannot be null.");
+
+        if (lists != null) {
+            int i = index;
+            index = fence;
+            for (; i < fence; i++) {
+                action.accept(assignValues(i, lists));
+            }
+        } else {
+            while (haveNext(iterators)) {
+                action.accept(assignValues(iterators));
+            }
+            estimate = 0;
+        }
+    }
+
+    @Override
+    public Spliterator<E[]> trySplit() {
+        if (lists != null) {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) return null;
+
+            Spliterator<E[]> prefix = new ZipSpliterator<E>(lists, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        if (estimate <= 1 || !haveNext(iterators)) return null;
+
+        int n = (int) Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), estimate);
+        Object[] tuples = new Object[n];
+        int j = 0;
+        do {
+            tuples[j] = assignValues(iterators);
+        } while (++j < n && haveNext(iterators));
+        batch = j;
+        estimate -= j;
+
+        return (Spliterator<E[]>) (Spliterator) Spliterators.spliterator(tuples, 0, j, characteristics());
+    }
+
+    @Override
+    public long estimateSize() {
+        return lists != null ? fence - index : estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+}
@@ -0,0 +1,235 @@
+package org.lambda.util;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.lambda.IntLambda;
+import org.lambda.Lambda;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+import static junit.framework.Assert.*;
+import static org.junit.Assume.assumeTrue;
+import static org.lambda.util.LambdaCollections.*;
+
+/**
+ * Checks the number of bytes allocated per element by the LambdaCollections hot paths against a fixed budget so that
+ * any change which adds garbage to the zip loop fails the build.
+ * <p/>
+ * Each workload is run a number of times before it is measured so that the measurement is of compiled code. The input
+ * collections and any boxed values are created before measuring, and the lambdas only return values that already
+ * exist, so only the allocations made by LambdaCollections itself are counted. The budgets include the growth of the
+ * result collections.
+ */
+public class LambdaCollectionsAllocationTest {
+
+    private static final int ELEMENTS = 100000;
+    private static final int WARM_UP_RUNS = 20;
+    private static final int MEASURED_RUNS = 5;
+
+    private static final long MAP_BUDGET = 48;
+    private static final long SOME_BUDGET = 32;
+    private static final long EVERY_BUDGET = 32;
+    private static final long MAP_C_BUDGET = 32;
+    private static final long MAP_LIST_BUDGET = 96;
+    private static final long MAP_CAN_BUDGET = 48;
+    private static final long SOME_INT_ARRAY_BUDGET = 0;
+
+    private com.sun.management.ThreadMXBean threads;
+    private List<Integer> list;
+    private int[] ints;
+    private Collection<Collection<Integer>> deepCollection;
+
+    @Before
+    public void setUp() throws Exception {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        list = new ArrayList<Integer>(ELEMENTS);
+        for (int i = 0; i < ELEMENTS; i++) {
+            list.add(i);
+        }
+
+        ints = new int[ELEMENTS];
+        for (int i = 0; i < ELEMENTS; i++) {
+            ints[i] = i;
+        }
+
+        deepCollection = new ArrayList<Collection<Integer>>();
+        for (int i = 0; i < ELEMENTS; i += 1000) {
+            deepCollection.add(list.subList(i, i + 1000));
+        }
+    }
+
+    /**
+     * Test the bytes allocated per element by the map method.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapAllocation() throws Exception {
+        assertWithinBudget("map", MAP_BUDGET, ELEMENTS, new Runnable() {
+            @Override
+            public void run() {
+                map(List.class, new Lambda<Integer, Integer>() {
+                    @Override
+                    public Integer lambda(Integer... integer) {
+                        return integer[0];
+                    }
+                }, list);
+            }
+        });
+    }
+
+    /**
+     * Test the bytes allocated per element by the some method.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSomeAllocation() throws Exception {
+        assertWithinBudget("some", SOME_BUDGET, ELEMENTS, new Runnable() {
+            @Override
+            public void run() {
+                some(new Lambda<Boolean, Integer>() {
+                    @Override
+                    public Boolean lambda(Integer... integer) {
+                        return integer[0] < 0;
+                    }
+                }, list);
+            }
+        });
+    }
+
+    /**
+     * Test the bytes allocated per element by the every method.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testEveryAllocation() throws Exception {
+        assertWithinBudget("every", EVERY_BUDGET, ELEMENTS, new Runnable() {
+            @Override
+            public void run() {
+                every(new Lambda<Boolean, Integer>() {
+                    @Override
+                    public Boolean lambda(Integer... integer) {
+                        return integer[0] >= 0;
+                    }
+                }, list);
+            }
+        });
+    }
+
+    /**
+     * Test the bytes allocated per element by the mapC method.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapCAllocation() throws Exception {
+        assertWithinBudget("mapC", MAP_C_BUDGET, ELEMENTS, new Runnable() {
+            @Override
+            public void run() {
+                mapC(new Lambda<Object, Integer>() {
+                    @Override
+                    public Object lambda(Integer... integer) {
+                        return integer[0];
+                    }
+                }, list);
+            }
+        });
+    }
+
+    /**
+     * Test the bytes allocated per element by the mapList method.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapListAllocation() throws Exception {
+        final List<Integer> shortList = new ArrayList<Integer>(list.subList(0, 1000));
+
+        assertWithinBudget("mapList", MAP_LIST_BUDGET, shortList.size(), new Runnable() {
+            @Override
+            public void run() {
+                mapList(new Lambda<Integer, List<Integer>>() {
+                    @Override
+                    public Integer lambda(List<Integer>... tail) {
+                        return tail[0].get(0);
+                    }
+                }, shortList);
+            }
+        });
+    }
+
+    /**
+     * Test the bytes allocated per element by the mapCan method.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapCanAllocation() throws Exception {
+        assertWithinBudget("mapCan", MAP_CAN_BUDGET, ELEMENTS, new Runnable() {
+            @Override
+            public void run() {
+                mapCan(List.class, new Lambda<Integer, Integer>() {
+                    @Override
+                    public Integer lambda(Integer... integer) {
+                        return integer[0];
+                    }
+                }, deepCollection);
+            }
+        });
+    }
+
+    /**
+     * Test that the some method allocates nothing per element of a primitive int array.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSomeIntArrayAllocation() throws Exception {
+        assertWithinBudget("some int array", SOME_INT_ARRAY_BUDGET, ELEMENTS, new Runnable() {
+            @Override
+            public void run() {
+                some(new IntLambda<Boolean>() {
+                    @Override
+                    public Boolean lambda(int... integer) {
+                        return integer[0] < 0;
+                    }
+                }, ints);
+            }
+        });
+    }
+
+    /**
+     * Run the workload until it has been compiled and then fail if the average number of bytes it allocates for each
+     * element is more than the budget.
+     *
+     * @param operation - the name of the operation used in the failure message.
+     * @param budget    - the largest number of bytes that may be allocated for each element.
+     * @param elements  - the number of elements processed by a single run of the workload.
+     * @param workload  - the workload to measure.
+     */
+    private void assertWithinBudget(String operation, long budget, int elements, Runnable workload) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            workload.run();
+        }
+
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            workload.run();
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        long perElement = allocated / ((long) MEASURED_RUNS * elements);
+        assertTrue(operation + " allocated " + perElement + " bytes per element, the budget is " + budget + ".",
+                perElement <= budget);
+    }
+}
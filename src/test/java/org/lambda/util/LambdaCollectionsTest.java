@@ -1,11 +1,20 @@
 package org.lambda.util;
 
 import org.junit.Test;
+import org.lambda.IntLambda;
 import org.lambda.Lambda;
+import org.lambda.LongLambda;
+import org.lambda.ToLongLambda;
 
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import static junit.framework.Assert.*;
+import static org.junit.Assume.assumeTrue;
 import static org.lambda.util.LambdaCollections.*;
 
 /**
@@ -120,6 +129,273 @@ public class LambdaCollectionsTest {
         assertEquals("mapped elemet 3 correct", new Integer(5), preMappedList.get(3));
     }
 
+    /**
+     * Test adaptiveMap method with a cheap lambda over a small collection that should be mapped sequentially.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testAdaptiveMapSequential() throws Exception {
+        Collection<Integer> collection = new Vector<Integer>(Arrays.asList(1, 2, 3, 4));
+        getAdaptiveStats().reset();
+
+        List<Integer> mappedList = adaptiveMap(List.class, new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integer) {
+                return integer[0] + 1;
+            }
+        }, collection);
+
+        assertEquals("mapped list correct", Arrays.asList(2, 3, 4, 5), mappedList);
+        assertEquals("sequential run recorded", 1, getAdaptiveStats().getSequentialRuns());
+        assertEquals("no parallel run recorded", 0, getAdaptiveStats().getParallelRuns());
+        AdaptiveSchedule schedule = getAdaptiveStats().getLastSchedule();
+        assertEquals("schedule size", 4, schedule.getSize());
+        assertFalse("schedule sequential", schedule.isParallel());
+    }
+
+    /**
+     * Test adaptiveMap method with a costly lambda over a large list that should be mapped in parallel.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testAdaptiveMapParallel() throws Exception {
+        assumeTrue(ForkJoinPool.getCommonPoolParallelism() > 1);
+
+        List<Integer> list = new ArrayList<Integer>();
+        for (int i = 0; i < 2000; i++) {
+            list.add(i);
+        }
+        getAdaptiveStats().reset();
+
+        List<Integer> mappedList = adaptiveMap(List.class, new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integer) {
+                long end = System.nanoTime() + 20000;
+                while (System.nanoTime() < end) {
+                    Thread.yield();
+                }
+                return integer[0] + 1;
+            }
+        }, list);
+
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals("mapped element " + i + " correct", new Integer(i + 1), mappedList.get(i));
+        }
+        AdaptiveSchedule schedule = getAdaptiveStats().getLastSchedule();
+        assertTrue("schedule parallel " + schedule, schedule.isParallel());
+        assertTrue("schedule sampled", schedule.getSampled() > 0);
+        assertTrue("schedule chunked", schedule.getChunkSize() > 0);
+        assertEquals("parallel run recorded", 1, getAdaptiveStats().getParallelRuns());
+    }
+
+    /**
+     * Test mapWithDeadline method with a deadline that leaves time to process every element.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapWithDeadlineComplete() throws Exception {
+        Collection<Integer> collection = new Vector<Integer>(Arrays.asList(1, 2, 3, 4));
+
+        PartialResult<Integer> result = mapWithDeadline(System.nanoTime() + 60000000000L,
+                new Lambda<Integer, Integer>() {
+                    @Override
+                    public Integer lambda(Integer... integer) {
+                        return integer[0] + 1;
+                    }
+                }, collection);
+
+        assertTrue("map completed", result.isComplete());
+        assertEquals("all processed", 4, result.getProcessed());
+        assertEquals("mapped list correct", Arrays.asList(2, 3, 4, 5), result.getResults());
+    }
+
+    /**
+     * Test mapWithDeadline and parallelMapWithDeadline methods with deadlines that pass part way through the list.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapWithDeadlinePartial() throws Exception {
+        List<Integer> list = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            list.add(i);
+        }
+        final long deadline = System.nanoTime() + 20000000L;
+
+        Lambda<Integer, Integer> slow = new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integer) {
+                try {
+                    Thread.sleep(integer[0] < 8 ? 0 : 1);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return integer[0] + 1;
+            }
+        };
+
+        PartialResult<Integer> sequential = mapWithDeadline(deadline, slow, list);
+        assertFalse("sequential map stopped", sequential.isComplete());
+        assertTrue("sequential map processed some", sequential.getProcessed() > 0);
+        for (int i = 0; i < sequential.getProcessed(); i++) {
+            assertEquals("sequential element " + i + " correct", new Integer(i + 1), sequential.getResults().get(i));
+        }
+
+        PartialResult<Integer> parallel = parallelMapWithDeadline(System.nanoTime() + 20000000L, slow, list);
+        assertFalse("parallel map stopped", parallel.isComplete());
+        assertTrue("parallel map stopped early", parallel.getProcessed() < list.size());
+        for (int i = 0; i < parallel.getProcessed(); i++) {
+            assertEquals("parallel element " + i + " correct", new Integer(i + 1), parallel.getResults().get(i));
+        }
+    }
+
+    /**
+     * Test parallelMapWithDeadline method with a deadline that leaves time to process every element.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testParallelMapWithDeadlineComplete() throws Exception {
+        List<Integer> list = new ArrayList<Integer>();
+        for (int i = 0; i < 50000; i++) {
+            list.add(i);
+        }
+
+        PartialResult<Integer> result = parallelMapWithDeadline(System.nanoTime() + 60000000000L,
+                new Lambda<Integer, Integer>() {
+                    @Override
+                    public Integer lambda(Integer... integer) {
+                        return integer[0] + 1;
+                    }
+                }, list, new LinkedList<Integer>(list));
+
+        assertTrue("map completed", result.isComplete());
+        assertEquals("all processed", list.size(), result.getProcessed());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals("element " + i + " correct", new Integer(i + 1), result.getResults().get(i));
+        }
+    }
+
+    /**
+     * Test map method with arrays and lambda, into a list and into a return array.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapArray() throws Exception {
+        Integer[] array1 = {1, 2, 3, 4};
+        Integer[] array2 = {4, 3, 2};
+
+        Lambda<Integer, Integer> sum = new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integers) {
+                return integers[0] + integers[1];
+            }
+        };
+
+        List<Integer> mappedList = map(sum, array1, array2);
+        assertEquals("mapped list correct", Arrays.asList(5, 5, 5), mappedList);
+
+        Integer[] mappedArray = map(new Integer[3], sum, array1, array2);
+        assertTrue("mapped array correct", Arrays.equals(new Integer[]{5, 5, 5}, mappedArray));
+    }
+
+    /**
+     * Test map method with primitive int and long arrays and their lambdas.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapPrimitiveArray() throws Exception {
+        int[] ints = {1, 2, 3, 4};
+        long[] longs = {10L, 20L, 30L};
+
+        List<Integer> mappedInts = map(new IntLambda<Integer>() {
+            @Override
+            public Integer lambda(int... integer) {
+                return integer[0] * 2;
+            }
+        }, ints);
+        assertEquals("mapped ints correct", Arrays.asList(2, 4, 6, 8), mappedInts);
+
+        String[] mappedLongs = map(new String[3], new LongLambda<String>() {
+            @Override
+            public String lambda(long... longs) {
+                return Long.toString(longs[0] + longs[1]);
+            }
+        }, longs, longs);
+        assertTrue("mapped longs correct", Arrays.equals(new String[]{"20", "40", "60"}, mappedLongs));
+    }
+
+    /**
+     * Test some and every methods with object and primitive arrays.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSomeEveryArray() throws Exception {
+        Integer[] array = {1, 2, 3, 4};
+        int[] ints = {1, 2, 3, 4};
+        long[] longs = {1L, 1L};
+
+        assertTrue("some found", some(new Lambda<Boolean, Integer>() {
+            @Override
+            public Boolean lambda(Integer... integer) {
+                return integer[0] == 3;
+            }
+        }, array));
+        assertFalse("every not found", every(new Lambda<Boolean, Integer>() {
+            @Override
+            public Boolean lambda(Integer... integer) {
+                return integer[0] == 3;
+            }
+        }, array));
+        assertFalse("some int not found", some(new IntLambda<Boolean>() {
+            @Override
+            public Boolean lambda(int... integer) {
+                return integer[0] == 5;
+            }
+        }, ints));
+        assertTrue("every long found", every(new LongLambda<Boolean>() {
+            @Override
+            public Boolean lambda(long... longs) {
+                return longs[0] == 1L;
+            }
+        }, longs));
+    }
+
+    /**
+     * Test mapC method with object and primitive arrays.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapCArray() throws Exception {
+        final List<Integer> copy = new ArrayList<Integer>();
+        final long[] sum = new long[1];
+
+        mapC(new Lambda<Object, Integer>() {
+            @Override
+            public Object lambda(Integer... integer) {
+                copy.add(integer[0]);
+                return null;
+            }
+        }, new Integer[]{1, 2, 3});
+        mapC(new LongLambda<Object>() {
+            @Override
+            public Object lambda(long... longs) {
+                sum[0] += longs[0];
+                return null;
+            }
+        }, new long[]{1L, 2L, 3L});
+
+        assertEquals("copied array correct", Arrays.asList(1, 2, 3), copy);
+        assertEquals("summed array correct", 6L, sum[0]);
+    }
+
     @Test
     public void testMapCan() throws Exception {
         Collection<Collection<Integer>> collection = new Vector<Collection<Integer>>();
@@ -146,6 +422,36 @@ public class LambdaCollectionsTest {
         assertEquals("mapped elemet 5 correct", new Integer(7), mappedList.get(5));
     }
 
+    /**
+     * Test parallelMapCan method with nested collections of uneven sizes.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testParallelMapCan() throws Exception {
+        Collection<Collection<Integer>> collection = new Vector<Collection<Integer>>();
+        List<Integer> expected = new ArrayList<Integer>();
+        int n = 0;
+        for (int size : new int[]{3, 50000, 0, 7, 20000, 1}) {
+            Collection<Integer> inner = size % 2 == 0 ? new ArrayList<Integer>() : new LinkedList<Integer>();
+            for (int i = 0; i < size; i++, n++) {
+                inner.add(n);
+                expected.add(n + 1);
+            }
+            collection.add(inner);
+        }
+
+        List<Integer> mappedList = parallelMapCan(List.class, new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integer) {
+                return integer[0] + 1;
+            }
+        }, collection
+        );
+
+        assertEquals("mapped collection equals sequential order", expected, mappedList);
+    }
+
     @Test
     public void testMapC() throws Exception {
         Collection<Integer> collection = new Vector<Integer>(Arrays.asList(1, 2, 3, 4));
@@ -163,6 +469,43 @@ public class LambdaCollectionsTest {
         assertEquals("copied collection equal", collection, collectionCopy);
     }
 
+    /**
+     * Test parallelMapC method feeding a LongAdder, a ConcurrentHistogram and a ConcurrentCounterMap.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testParallelMapC() throws Exception {
+        List<Integer> list = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            list.add(i);
+        }
+        final LongAdder sum = new LongAdder();
+        final ConcurrentHistogram histogram = new ConcurrentHistogram(9999, 49999);
+        final ConcurrentCounterMap<Integer> counts = new ConcurrentCounterMap<Integer>();
+
+        parallelMapC(new Lambda<Object, Integer>() {
+            @Override
+            public Object lambda(Integer... integer) {
+                sum.add(integer[0]);
+                histogram.record(integer[0]);
+                counts.increment(integer[0] % 3);
+                return null;
+            }
+        }, list);
+
+        assertEquals("sum correct", 4999950000L, sum.sum());
+        assertEquals("histogram buckets", 3, histogram.getBucketCount());
+        assertEquals("histogram bucket 0", 10000, histogram.getCount(0));
+        assertEquals("histogram bucket 1", 40000, histogram.getCount(1));
+        assertEquals("histogram bucket 2", 50000, histogram.getCount(2));
+        assertEquals("histogram total", 100000, histogram.getTotalCount());
+        assertEquals("counter 0", 33334, counts.get(0));
+        assertEquals("counter 1", 33333, counts.get(1));
+        assertEquals("counter 2", 33333, counts.get(2));
+        assertEquals("counter missing", 0, counts.get(3));
+    }
+
     @Test
     public void testMapList() throws Exception {
         List<Integer> list = new ArrayList<Integer>(Arrays.asList(1, 2, 3, 4));
@@ -220,6 +563,344 @@ public class LambdaCollectionsTest {
         assertEquals("mapped elemet 3 correct", "4", mappedList.get(3));
     }
 
+    /**
+     * Test join method with key lambdas over two collections that share some keys.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testJoin() throws Exception {
+        List<Integer> left = Arrays.asList(1, 2, 3, 4, null);
+        List<String> right = Arrays.asList("1a", "3a", "3b", "5a", "1b", "2a", "6a", "7a");
+
+        List<String> joined = join(new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integer) {
+                return integer[0];
+            }
+        }, new Lambda<Integer, String>() {
+            @Override
+            public Integer lambda(String... string) {
+                return Integer.parseInt(string[0].substring(0, 1));
+            }
+        }, new Lambda<String, Object>() {
+            @Override
+            public String lambda(Object... pair) {
+                return pair[0] + "=" + pair[1];
+            }
+        }, left, right);
+
+        assertEquals("joined in order of larger collection",
+                Arrays.asList("1=1a", "3=3a", "3=3b", "1=1b", "2=2a"), joined);
+    }
+
+    /**
+     * Test leftOuterJoin method with left elements that have no matching right element.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testLeftOuterJoin() throws Exception {
+        Lambda<Integer, Integer> key = new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integer) {
+                return integer[0] % 10;
+            }
+        };
+        Lambda<String, Object> combine = new Lambda<String, Object>() {
+            @Override
+            public String lambda(Object... pair) {
+                return pair[0] + "=" + pair[1];
+            }
+        };
+
+        List<String> smallerLeft = leftOuterJoin(key, key, combine, Arrays.asList(1, 2, 3),
+                Arrays.asList(11, 13, 21, 33, 44));
+        assertEquals("outer joined with smaller left", Arrays.asList("1=11", "3=13", "1=21", "3=33", "2=null"),
+                smallerLeft);
+
+        List<String> largerLeft = leftOuterJoin(key, key, combine, Arrays.asList(11, 13, 21, 33, 44),
+                Arrays.asList(1, 3));
+        assertEquals("outer joined with larger left", Arrays.asList("11=1", "13=3", "21=1", "33=3", "44=null"),
+                largerLeft);
+    }
+
+    /**
+     * Test parallelJoin and parallelLeftOuterJoin methods against the results of the sequential joins.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testParallelJoin() throws Exception {
+        List<Integer> left = new ArrayList<Integer>();
+        List<Integer> right = new ArrayList<Integer>();
+        for (int i = 0; i < 20000; i++) {
+            left.add(i);
+            if (i % 3 == 0) right.add(i * 2);
+        }
+        Lambda<Integer, Integer> key = new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integer) {
+                return integer[0] / 2;
+            }
+        };
+        Lambda<String, Object> combine = new Lambda<String, Object>() {
+            @Override
+            public String lambda(Object... pair) {
+                return pair[0] + "=" + pair[1];
+            }
+        };
+
+        List<String> inner = parallelJoin(key, key, combine, left, right);
+        List<String> expectedInner = join(key, key, combine, left, right);
+        Collections.sort(inner);
+        Collections.sort(expectedInner);
+        assertEquals("parallel inner join equals join", expectedInner, inner);
+
+        List<String> outer = parallelLeftOuterJoin(key, key, combine, left, right);
+        List<String> expectedOuter = leftOuterJoin(key, key, combine, left, right);
+        Collections.sort(outer);
+        Collections.sort(expectedOuter);
+        assertEquals("parallel outer join equals outer join", expectedOuter, outer);
+        assertEquals("every left element joined once", left.size(), outer.size());
+    }
+
+    /**
+     * Test find and findIndex methods with one and two collections.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testFind() throws Exception {
+        Collection<Integer> collection1 = new Vector<Integer>(Arrays.asList(1, 2, 3, 4, 5));
+        Collection<Integer> collection2 = new Vector<Integer>(Arrays.asList(5, 4, 3, 2, 1));
+
+        Match<Integer> match = find(new Lambda<Boolean, Integer>() {
+            @Override
+            public Boolean lambda(Integer... integers) {
+                return integers[0] > integers[1];
+            }
+        }, collection1, collection2);
+
+        assertNotNull("match found", match);
+        assertEquals("match index", 3, match.getIndex());
+        assertEquals("match element", new Integer(4), match.getElement());
+        assertEquals("match tuple", new Integer(2), match.getArguments()[1]);
+
+        assertEquals("find index not null", 2, findIndex(new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integer) {
+                return integer[0] == 3 ? 3 : null;
+            }
+        }, collection1));
+        assertEquals("find index missing", -1, findIndex(new Lambda<Boolean, Integer>() {
+            @Override
+            public Boolean lambda(Integer... integer) {
+                return integer[0] == 6;
+            }
+        }, collection1));
+    }
+
+    /**
+     * Test parallelFind and parallelFindIndex methods with a repeated match against the sequential search.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testParallelFind() throws Exception {
+        List<Integer> list = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            list.add(i % 1000);
+        }
+        Lambda<Boolean, Integer> isLarge = new Lambda<Boolean, Integer>() {
+            @Override
+            public Boolean lambda(Integer... integer) {
+                return integer[0] >= 997;
+            }
+        };
+
+        Match<Integer> match = parallelFind(isLarge, list);
+        assertNotNull("match found", match);
+        assertEquals("match index same as sequential", findIndex(isLarge, list), match.getIndex());
+        assertEquals("match element", new Integer(997), match.getElement());
+        assertEquals("parallel find index", 997, parallelFindIndex(isLarge, new LinkedList<Integer>(list)));
+        assertEquals("parallel find index missing", -1, parallelFindIndex(new Lambda<Boolean, Integer>() {
+            @Override
+            public Boolean lambda(Integer... integer) {
+                return integer[0] < 0;
+            }
+        }, list));
+    }
+
+    /**
+     * Test mapDistinct, mapDistinctLong and their parallel versions against a HashSet of the results.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapDistinct() throws Exception {
+        List<Integer> list = new ArrayList<Integer>();
+        for (int i = 0; i < 50000; i++) {
+            list.add(i);
+        }
+        Lambda<Integer, Integer> mod = new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integer) {
+                return integer[0] % 997;
+            }
+        };
+        ToLongLambda<Integer> id = new ToLongLambda<Integer>() {
+            @Override
+            public long lambda(Integer... integer) {
+                return integer[0] / 3 * 1000000007L;
+            }
+        };
+
+        Set<Integer> expected = map(HashSet.class, mod, list);
+        assertEquals("distinct", expected, mapDistinct(mod, list));
+        assertEquals("parallel distinct", expected, parallelMapDistinct(mod, list));
+
+        Set<Long> expectedIds = new HashSet<Long>();
+        for (Integer integer : list) {
+            expectedIds.add(id.lambda(integer));
+        }
+        assertEquals("distinct ids", expectedIds, mapDistinctLong(id, list));
+        assertEquals("parallel distinct ids", expectedIds, parallelMapDistinctLong(id, new LinkedList<Integer>(list)));
+    }
+
+    /**
+     * Test mapDistinctApproximateLong method with ids that share their lower 32 bits.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapDistinctApproximateLong() throws Exception {
+        List<Integer> list = new ArrayList<Integer>();
+        for (int i = 0; i < 200000; i++) {
+            list.add(i);
+        }
+        ToLongLambda<Integer> id = new ToLongLambda<Integer>() {
+            @Override
+            public long lambda(Integer... integer) {
+                long i = integer[0] % 100000;
+                return integer[0] < 100000 ? i : i << 32 | i;
+            }
+        };
+
+        LongOpenHashSet ids = mapDistinctApproximateLong(0.001, id, list);
+        assertTrue("equal 32 bit hashes kept apart", ids.size() > 199000 && ids.size() <= 200000);
+        assertTrue("only results", mapDistinctLong(id, list).containsAll(ids));
+
+        try {
+            mapDistinctApproximateLong(1.0, id, list);
+            fail("a false positive rate of one should be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Test some and every methods with iterators that should stop being pulled at the answer.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSomeEveryIterator() throws Exception {
+        final AtomicInteger pulled = new AtomicInteger();
+        Iterator<Integer> naturals = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return pulled.incrementAndGet();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        assertTrue("some found in unbounded iterator", some(new Lambda<Boolean, Integer>() {
+            @Override
+            public Boolean lambda(Integer... integer) {
+                return integer[0] == 5;
+            }
+        }, naturals));
+        assertEquals("some stopped pulling", 5, pulled.get());
+
+        assertFalse("every stopped in unbounded iterator", every(new Lambda<Boolean, Integer>() {
+            @Override
+            public Boolean lambda(Integer... integer) {
+                return integer[0] < 10;
+            }
+        }, naturals));
+        assertEquals("every stopped pulling", 10, pulled.get());
+    }
+
+    /**
+     * Test map method with an iterable source and a bounded blocking queue as the return collection.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapIterableIntoBoundedSink() throws Exception {
+        final int size = 10000;
+        Iterable<Integer> source = new Iterable<Integer>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                return new Iterator<Integer>() {
+                    private int next = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Integer next() {
+                        return next++;
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+        final BlockingQueue<Integer> sink = new ArrayBlockingQueue<Integer>(16);
+        final long[] sum = new long[1];
+        Thread consumer = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    for (int i = 0; i < size; i++) {
+                        sum[0] += sink.take();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        consumer.start();
+
+        BlockingQueue<Integer> returned = map(sink, new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integer) {
+                return integer[0] * 2;
+            }
+        }, source);
+        consumer.join(10000);
+
+        assertSame("sink returned", sink, returned);
+        assertFalse("consumer finished", consumer.isAlive());
+        assertEquals("every result consumed", (long) size * (size - 1), sum[0]);
+    }
+
     @Test
     public void testSomeTrue() throws Exception {
         Collection<Integer> collection = new Vector<Integer>(Arrays.asList(1, 2, 3, 4));
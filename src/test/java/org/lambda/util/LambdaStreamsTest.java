@@ -0,0 +1,155 @@
+package org.lambda.util;
+
+import org.junit.Test;
+import org.lambda.Lambda;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static junit.framework.Assert.*;
+import static org.lambda.util.LambdaStreams.*;
+
+public class LambdaStreamsTest {
+
+    /**
+     * Test toFunction method with a lambda.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testToFunction() throws Exception {
+        Function<Integer, Integer> function = toFunction(new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integer) {
+                return integer[0] + 1;
+            }
+        });
+
+        assertEquals("function applied", new Integer(2), function.apply(1));
+    }
+
+    /**
+     * Test toPredicate method with a lambda that returns null or not null.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testToPredicate() throws Exception {
+        Predicate<Integer> predicate = toPredicate(new Lambda<Integer, Integer>() {
+            @Override
+            public Integer lambda(Integer... integer) {
+                return integer[0] == 3 ? 3 : null;
+            }
+        });
+
+        assertTrue("not null is true", predicate.test(3));
+        assertFalse("null is false", predicate.test(4));
+    }
+
+    /**
+     * Test fromFunction method with a function and that toFunction unwraps it again.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testFromFunction() throws Exception {
+        Function<Integer, String> function = new Function<Integer, String>() {
+            @Override
+            public String apply(Integer integer) {
+                return Integer.toString(integer);
+            }
+        };
+
+        Lambda<String, Integer> lambda = fromFunction(function);
+        List<String> mappedList = LambdaCollections.map(List.class, lambda, Arrays.asList(1, 2));
+
+        assertEquals("mapped list correct", Arrays.asList("1", "2"), mappedList);
+        assertSame("function unwrapped", function, toFunction(lambda));
+    }
+
+    /**
+     * Test fromPredicate method with a predicate and that toPredicate unwraps it again.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testFromPredicate() throws Exception {
+        Predicate<Integer> predicate = new Predicate<Integer>() {
+            @Override
+            public boolean test(Integer integer) {
+                return integer == 3;
+            }
+        };
+
+        Lambda<Boolean, Integer> lambda = fromPredicate(predicate);
+
+        assertTrue("some found", LambdaCollections.some(lambda, Arrays.asList(1, 2, 3)));
+        assertSame("predicate unwrapped", predicate, toPredicate(lambda));
+    }
+
+    /**
+     * Test zip method with random access lists of different sizes.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testZipRandomAccess() throws Exception {
+        List<Integer> list1 = new ArrayList<Integer>(Arrays.asList(1, 2, 3, 4, 5));
+        List<Integer> list2 = new ArrayList<Integer>(Arrays.asList(5, 4, 3, 2));
+
+        Spliterator<Integer[]> zip = zip(list1, list2);
+
+        assertEquals("zip size is shortest", 4, zip.getExactSizeIfKnown());
+        Spliterator<Integer[]> prefix = zip.trySplit();
+        assertNotNull("zip split", prefix);
+        assertEquals("prefix size", 2, prefix.getExactSizeIfKnown());
+        assertEquals("suffix size", 2, zip.getExactSizeIfKnown());
+    }
+
+    /**
+     * Test zip method with linked lists that can only be split by iterator.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testZipIterator() throws Exception {
+        Collection<Integer> collection1 = new LinkedList<Integer>(Arrays.asList(1, 2, 3, 4));
+        Collection<Integer> collection2 = new LinkedList<Integer>(Arrays.asList(4, 3, 2, 1));
+
+        Spliterator<Integer[]> zip = zip(collection1, collection2);
+
+        assertEquals("zip size", 4, zip.getExactSizeIfKnown());
+        Spliterator<Integer[]> prefix = zip.trySplit();
+        assertNotNull("zip split", prefix);
+        assertEquals("sizes add up", 4, prefix.getExactSizeIfKnown() + zip.getExactSizeIfKnown());
+    }
+
+    /**
+     * Test zipStream method with a parallel stream over a list and a linked list.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testZipStreamParallel() throws Exception {
+        List<Integer> list1 = new ArrayList<Integer>();
+        Collection<Integer> collection2 = new LinkedList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            list1.add(i);
+            collection2.add(i * 2);
+        }
+
+        List<Integer> sums = zipStream(true, list1, collection2).map(new Function<Integer[], Integer>() {
+            @Override
+            public Integer apply(Integer[] integers) {
+                return integers[0] + integers[1];
+            }
+        }).collect(Collectors.<Integer>toList());
+
+        assertEquals("stream size correct", list1.size(), sums.size());
+        for (int i = 0; i < sums.size(); i++) {
+            assertEquals("stream element " + i + " correct", new Integer(i * 3), sums.get(i));
+        }
+    }
+}
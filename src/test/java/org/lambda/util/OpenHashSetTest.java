@@ -0,0 +1,95 @@
+package org.lambda.util;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static junit.framework.Assert.*;
+
+public class OpenHashSetTest {
+
+    /**
+     * Test OpenHashSet add, remove and contains against a HashSet.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOpenHashSet() throws Exception {
+        OpenHashSet<Integer> set = new OpenHashSet<Integer>();
+        Set<Integer> expected = new HashSet<Integer>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 100000; i++) {
+            int value = random.nextInt(20000);
+            assertEquals("add " + value, expected.add(value), set.add(value));
+        }
+        for (int i = 0; i < 20000; i += 3) {
+            assertEquals("remove " + i, expected.remove(i), set.remove(i));
+        }
+
+        assertEquals("size", expected.size(), set.size());
+        assertEquals("same elements", expected, set);
+        for (int i = 0; i < 20000; i++) {
+            assertEquals("contains " + i, expected.contains(i), set.contains(i));
+        }
+    }
+
+    /**
+     * Test OpenHashSet with null as an element and with clear.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOpenHashSetNull() throws Exception {
+        OpenHashSet<String> set = new OpenHashSet<String>(4);
+
+        assertTrue("add null", set.add(null));
+        assertFalse("add null again", set.add(null));
+        assertTrue("add value", set.add("one"));
+        assertTrue("contains null", set.contains(null));
+        assertEquals("null iterated", new HashSet<String>(Arrays.asList(null, "one")), new HashSet<String>(set));
+        assertTrue("remove null", set.remove(null));
+        assertFalse("null removed", set.contains(null));
+
+        set.clear();
+        assertTrue("cleared", set.isEmpty());
+        assertFalse("cleared element", set.contains("one"));
+    }
+
+    /**
+     * Test LongOpenHashSet add, remove, contains and addAll against a HashSet, including zero.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testLongOpenHashSet() throws Exception {
+        LongOpenHashSet set = new LongOpenHashSet();
+        Set<Long> expected = new HashSet<Long>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 100000; i++) {
+            long value = random.nextInt(20000) - 10000L;
+            assertEquals("add " + value, expected.add(value), set.add(value));
+        }
+        for (long i = -10000; i < 10000; i += 3) {
+            assertEquals("remove " + i, expected.remove(i), set.remove(i));
+        }
+
+        assertEquals("size", expected.size(), set.size());
+        assertEquals("same elements", expected, set);
+        assertEquals("array length", expected.size(), set.toLongArray().length);
+        for (long i = -10000; i < 10000; i++) {
+            assertEquals("contains " + i, expected.contains(i), set.contains(i));
+        }
+
+        LongOpenHashSet other = new LongOpenHashSet();
+        other.add(0);
+        other.add(Long.MIN_VALUE);
+        set.clear();
+        assertTrue("add all", set.addAll(other));
+        assertTrue("contains zero", set.contains(0));
+        assertTrue("contains min", set.contains(Long.MIN_VALUE));
+        assertFalse("add all again", set.addAll(other));
+        assertEquals("size after add all", 2, set.size());
+    }
+}
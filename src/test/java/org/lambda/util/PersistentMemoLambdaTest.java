@@ -0,0 +1,179 @@
+package org.lambda.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.lambda.Lambda;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.*;
+import static org.lambda.util.LambdaCollections.map;
+
+public class PersistentMemoLambdaTest {
+
+    private File file;
+    private AtomicInteger calls;
+    private Lambda<String, Integer> lambda;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("memo", ".log");
+        file.delete();
+        calls = new AtomicInteger();
+        lambda = new Lambda<String, Integer>() {
+            @Override
+            public String lambda(Integer... integer) {
+                calls.incrementAndGet();
+                return integer[0] % 5 == 0 ? null : "value-" + integer[0];
+            }
+        };
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        file.delete();
+    }
+
+    /**
+     * Test PersistentMemoLambda remembers results across a close and reopen of the file.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMemoAcrossRuns() throws Exception {
+        List<Integer> list = Arrays.asList(1, 2, 3, 4, 5, 1, 2);
+
+        PersistentMemoLambda<String, Integer> memo = new PersistentMemoLambda<String, Integer>(file, lambda,
+                Serializers.INTEGER, Serializers.STRING, 1 << 20);
+        List<String> first = map(List.class, memo, list);
+        memo.close();
+
+        assertEquals("lambda run once per distinct argument", 5, calls.get());
+        assertEquals("hits counted", 2, memo.getHits());
+        assertEquals("misses counted", 5, memo.getMisses());
+
+        memo = new PersistentMemoLambda<String, Integer>(file, lambda, Serializers.INTEGER, Serializers.STRING,
+                1 << 20);
+        List<String> second = map(List.class, memo, list);
+        memo.close();
+
+        assertEquals("no lambda runs after restart", 5, calls.get());
+        assertEquals("results equal", first, second);
+        assertEquals("null result remembered", null, second.get(4));
+        assertEquals("hit rate", 1.0, memo.getHitRate());
+    }
+
+    /**
+     * Test PersistentMemoLambda drops a record that was only partly written.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testTornRecordDropped() throws Exception {
+        PersistentMemoLambda<String, Integer> memo = new PersistentMemoLambda<String, Integer>(file, lambda,
+                Serializers.INTEGER, Serializers.STRING, 1 << 20);
+        memo.lambda(1);
+        memo.lambda(2);
+        memo.close();
+
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.seek(raf.length() - 2);
+        raf.write(new byte[]{1, 2});
+        raf.close();
+
+        memo = new PersistentMemoLambda<String, Integer>(file, lambda, Serializers.INTEGER, Serializers.STRING,
+                1 << 20);
+        assertEquals("only the complete record kept", 1, memo.size());
+        assertEquals("kept record remembered", "value-1", memo.lambda(1));
+        assertEquals("dropped record run again", "value-2", memo.lambda(2));
+        assertEquals("lambda runs", 3, calls.get());
+        memo.close();
+    }
+
+    /**
+     * Test PersistentMemoLambda keeps the file under its cap by evicting the least recently used results.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testEviction() throws Exception {
+        PersistentMemoLambda<String, Integer> memo = new PersistentMemoLambda<String, Integer>(file, lambda,
+                Serializers.INTEGER, Serializers.STRING, 4096);
+        for (int i = 0; i < 1000; i++) {
+            memo.lambda(i);
+        }
+
+        assertTrue("entries evicted", memo.size() < 1000);
+        assertTrue("file under cap", file.length() <= 4096);
+        int before = calls.get();
+        assertEquals("recent entry kept", "value-999", memo.lambda(999));
+        assertEquals("recent entry not run again", before, calls.get());
+        memo.close();
+    }
+
+    /**
+     * Test PersistentMemoLambda rejects every call after it has been closed.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testClosed() throws Exception {
+        PersistentMemoLambda<String, Integer> memo = new PersistentMemoLambda<String, Integer>(file, lambda,
+                Serializers.INTEGER, Serializers.STRING, 1 << 20);
+        memo.lambda(1);
+        memo.close();
+
+        try {
+            memo.lambda(1);
+            fail("a remembered argument should not be looked up after close");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            memo.lambda(2);
+            fail("a new argument should not be run after close");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals("no lambda runs after close", 1, calls.get());
+    }
+
+    /**
+     * Test PersistentMemoLambda cuts off the tail of a file that was left at the full cap with a torn record in it.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testUnclosedTailCut() throws Exception {
+        PersistentMemoLambda<String, Integer> memo = new PersistentMemoLambda<String, Integer>(file, lambda,
+                Serializers.INTEGER, Serializers.STRING, 1 << 16);
+        memo.lambda(1);
+        memo.lambda(2);
+        memo.close();
+
+        long end = file.length();
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.setLength(1 << 16);
+        raf.seek(end);
+        raf.writeInt(40);
+        raf.write(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        raf.close();
+
+        memo = new PersistentMemoLambda<String, Integer>(file, lambda, Serializers.INTEGER, Serializers.STRING,
+                1 << 16);
+        assertEquals("complete records kept", 2, memo.size());
+        memo.lambda(3);
+        memo.close();
+        assertFalse("no compacted file left behind", new File(file.getPath() + ".compact").exists());
+
+        memo = new PersistentMemoLambda<String, Integer>(file, lambda, Serializers.INTEGER, Serializers.STRING,
+                1 << 16);
+        assertEquals("record appended over the cut tail kept", 3, memo.size());
+        assertEquals("lambda runs", 3, calls.get());
+        memo.close();
+    }
+}
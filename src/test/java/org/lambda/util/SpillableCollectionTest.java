@@ -0,0 +1,151 @@
+package org.lambda.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.lambda.Lambda;
+
+import java.io.File;
+import java.util.*;
+
+import static junit.framework.Assert.*;
+import static org.lambda.util.LambdaCollections.map;
+
+public class SpillableCollectionTest {
+
+    private File directory;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = File.createTempFile("spillable", "test");
+        directory.delete();
+        directory.mkdir();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    /**
+     * Test map method into an unsorted SpillableCollection that spills several runs.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapUnsorted() throws Exception {
+        List<Integer> list = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            list.add(i);
+        }
+
+        SpillableCollection<Integer> spilled = map(
+                new SpillableCollection<Integer>(Serializers.INTEGER, 1000, null, directory),
+                new Lambda<Integer, Integer>() {
+                    @Override
+                    public Integer lambda(Integer... integer) {
+                        return integer[0] % 7 == 0 ? null : integer[0] * 2;
+                    }
+                }, list);
+
+        assertTrue("results spilled", spilled.getRunCount() > 1);
+        assertEquals("spilled size correct", list.size(), spilled.size());
+        int i = 0;
+        for (Integer result : spilled) {
+            assertEquals("spilled element " + i + " correct", i % 7 == 0 ? null : i * 2, result);
+            i++;
+        }
+        assertEquals("all elements iterated", list.size(), i);
+
+        spilled.close();
+        assertEquals("run files deleted", 0, directory.listFiles().length);
+    }
+
+    /**
+     * Test map method into a sorted SpillableCollection with more runs than a single merge.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapSorted() throws Exception {
+        List<String> list = new ArrayList<String>();
+        Random random = new Random(1);
+        for (int i = 0; i < 20000; i++) {
+            list.add(Integer.toString(random.nextInt()));
+        }
+
+        SpillableCollection<String> spilled = map(
+                new SpillableCollection<String>(Serializers.STRING, 1024, Collections.reverseOrder(), directory),
+                new Lambda<String, String>() {
+                    @Override
+                    public String lambda(String... string) {
+                        return string[0];
+                    }
+                }, list);
+
+        assertTrue("more runs than a single merge", spilled.getRunCount() > 64);
+        List<String> expected = new ArrayList<String>(list);
+        Collections.sort(expected, Collections.reverseOrder());
+        assertEquals("spilled elements sorted", expected, new ArrayList<String>(spilled));
+
+        spilled.clear();
+        assertEquals("cleared", 0, spilled.size());
+        assertEquals("run files deleted", 0, directory.listFiles().length);
+    }
+
+    /**
+     * Test a sorted SpillableCollection that never spills.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testInMemory() throws Exception {
+        SpillableCollection<Long> collection = new SpillableCollection<Long>(Serializers.LONG, 1 << 20,
+                new Comparator<Long>() {
+                    @Override
+                    public int compare(Long a, Long b) {
+                        return a.compareTo(b);
+                    }
+                }, directory);
+        collection.addAll(Arrays.asList(3L, 1L, 2L));
+
+        assertEquals("nothing spilled", 0, collection.getRunCount());
+        assertEquals("sorted in memory", Arrays.asList(1L, 2L, 3L), new ArrayList<Long>(collection));
+    }
+
+    /**
+     * Test SpillableCollection releases its run files after contains and a closed partial iteration.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPartialIteration() throws Exception {
+        SpillableCollection<Integer> unsorted = new SpillableCollection<Integer>(Serializers.INTEGER, 100, null,
+                directory);
+        SpillableCollection<Integer> sorted = new SpillableCollection<Integer>(Serializers.INTEGER, 100,
+                Collections.reverseOrder(), directory);
+        for (int i = 0; i < 1000; i++) {
+            unsorted.add(i);
+            sorted.add(i);
+        }
+
+        assertTrue("unsorted contains", unsorted.contains(42));
+        assertEquals("unsorted contains closed its run", 0, unsorted.getOpenRunCount());
+        assertTrue("sorted contains", sorted.contains(998));
+        assertEquals("sorted contains closed its runs", 0, sorted.getOpenRunCount());
+
+        CloseableIterator<Integer> iterator = sorted.iterator();
+        assertEquals("largest first", new Integer(999), iterator.next());
+        assertTrue("merge holds runs open", sorted.getOpenRunCount() > 1);
+        iterator.close();
+        assertEquals("closed iterator released its runs", 0, sorted.getOpenRunCount());
+        assertFalse("closed iterator is empty", iterator.hasNext());
+
+        unsorted.close();
+        sorted.close();
+        assertEquals("run files deleted", 0, directory.listFiles().length);
+    }
+}